@@ -0,0 +1,437 @@
+package io.kestra.plugin.linkedin;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.runners.RunContext;
+
+import io.opentelemetry.context.Context;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared configuration and comment polling logic of the LinkedIn comment triggers.
+ */
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+public abstract class AbstractCommentTrigger extends AbstractTrigger implements LinkedinConnectionInterface {
+    protected static final Duration DEDUPLICATION_STATE_TTL = Duration.ofDays(30);
+    // the discovered posts are a cache: once expired, the next poll finds the most recent posts again
+    protected static final Duration DISCOVERY_STATE_TTL = Duration.ofDays(7);
+
+    @Schema(title = "Access Token", description = "OAuth2 access token sent as Bearer auth for LinkedIn REST API calls; required unless `accessTokens` is set")
+    @PluginProperty(secret = true, group = "main")
+    @ToString.Exclude
+    protected Property<String> accessToken;
+
+    @Schema(
+        title = "Access Tokens pool",
+        description = "Several OAuth2 access tokens, e.g. of different LinkedIn apps, to spread the requests across; exclusive with `accessToken`. " +
+            "Each request uses the token with the fewest requests in flight, and a token answered with 401 or 429 is left out of the rotation for a while, the request being retried with another token unless it publishes content or uploads media."
+    )
+    @PluginProperty(secret = true, group = "main")
+    @ToString.Exclude
+    protected Property<List<String>> accessTokens;
+
+    @Schema(title = "Post URNs", description = "List of LinkedIn post URNs to monitor for new comments; exclusive with `postUrnsFrom`")
+    @PluginProperty(group = "main")
+    protected Property<List<String>> postUrns;
+
+    @Schema(
+        title = "Post URNs file",
+        description = "`kestra://` internal storage URI of a file listing the post URNs to monitor, read lazily on each poll. " +
+            "Supports ION (strings or records with an `urn` field), CSV (first column) and newline-separated lists; exclusive with `postUrns`."
+    )
+    @PluginProperty(internalStorageURI = true, group = "main")
+    protected Property<String> postUrnsFrom;
+
+    @Schema(
+        title = "Organization URN",
+        description = "Also monitor the most recent posts of this organization, e.g. `urn:li:organization:2414183`. " +
+            "Posts are discovered through the posts finder and cached in the namespace KV store; each poll only looks for posts created since the previous discovery."
+    )
+    @PluginProperty(group = "main")
+    protected Property<String> organizationUrn;
+
+    @Schema(title = "Maximum discovered posts", description = "Number of most recent organization posts monitored when `organizationUrn` is set")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> maxDiscoveredPosts = Property.ofValue(50);
+
+    @Schema(title = "Polling interval", description = "How often to check for new comments")
+    @PluginProperty(group = "execution")
+    @Builder.Default
+    protected Duration interval = Duration.ofMinutes(30);
+
+    @Schema(title = "LinkedIn API Version", description = "LinkedIn-Version header value; defaults to 202509")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<String> linkedinVersion = Property.ofValue("202509");
+
+    @Schema(title = "Base API URL", description = "LinkedIn REST base URL; defaults to `https://api.linkedin.com/rest`")
+    @Builder.Default
+    @PluginProperty(group = "connection")
+    protected Property<String> apiBaseUrl = Property.ofValue(LinkedinRequestTemplate.DEFAULT_BASE_URL);
+
+    @Schema(
+        title = "Coalesce requests",
+        description = "Opt-in: identical LinkedIn GET requests sent with the same credentials by any execution of the worker share one call while in flight, and its answer for `coalescingTtl` after, saving quota when several flows read the same posts. A run may then see an answer up to `coalescingTtl` old."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> coalesceRequests = Property.ofValue(false);
+
+    @Schema(title = "Coalescing TTL", description = "How long the answer of a request is reused by identical requests; `PT0S` only shares the requests in flight")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Duration> coalescingTtl = Property.ofValue(LinkedinConnection.DEFAULT_COALESCING_TTL);
+
+    @Schema(title = "Application Name", description = "Application identifier included in requests; defaults to kestra-linkedin-plugin")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<String> applicationName = Property.ofValue("kestra-linkedin-plugin");
+
+    @Schema(
+        title = "Deduplicate emitted comments",
+        description = "Opt-in: keep a bounded index of already emitted comments in the namespace KV store, so overlapping polling windows, clock skew or scheduler retries never emit the same comment twice. " +
+            "When enabled, each poll also looks back one extra interval to catch late comments. " +
+            "The index is saved once the execution is built, right before it is handed to the scheduler: a poll failing earlier is retried with the same comments, while a worker stopping in between loses them rather than emitting them twice."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Boolean> deduplicate = Property.ofValue(false);
+
+    @Schema(title = "Deduplication capacity", description = "Number of emitted comments remembered per monitored post; the oldest entries are evicted first")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> deduplicationCapacity = Property.ofValue(1000);
+
+    @Schema(
+        title = "Enrich actors",
+        description = "Resolve the person and organization URNs of the comment authors into names and headlines, exposed as `actor` on each comment. " +
+            "Profiles are batch-resolved and cached per worker, so repeat commenters cost no extra request."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> enrichActors = Property.ofValue(false);
+
+    @Schema(title = "Actor profile cache TTL", description = "How long a resolved actor profile is reused before being requested again")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Duration> actorCacheTtl = Property.ofValue(Duration.ofHours(24));
+
+    @Schema(title = "Share actor profiles through the KV store", description = "Also cache resolved actor profiles in the namespace KV store, so they survive worker restarts and are shared across workers")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> actorCacheInKvStore = Property.ofValue(false);
+
+    @Schema(
+        title = "Concurrency",
+        description = "Maximum number of posts polled at the same time. Each request waits on a virtual thread, so a high value does not tie up worker threads."
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    protected Property<Integer> concurrency = Property.ofValue(4);
+
+    @Schema(title = "Maximum requests per second", description = "Request rate budget of a poll, shared by all the monitored posts; unlimited when not set")
+    @PluginProperty(group = "execution")
+    protected Property<Double> maxRequestsPerSecond;
+
+    @Schema(
+        title = "Post priorities",
+        description = "Priority of monitored post URNs, from 0 (default) to 10. Higher priority posts are polled first, so their comments are emitted sooner when `maxRequestsPerSecond` is the bottleneck."
+    )
+    @PluginProperty(group = "execution")
+    protected Property<Map<String, Integer>> priorities;
+
+    @Schema(
+        title = "Prioritize recent posts",
+        description = "Derive the priority of the posts without one in `priorities` from their age, read from the creation time encoded in their URN: " +
+            "10 under a day, 6 under a week, 3 under 30 days, 0 otherwise. " +
+            "A post with a reaction or comment seen by a previous run of the worker is raised to 10 when that activity is under an hour old, 6 under a day and 3 under a week."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    protected Property<Boolean> prioritizeRecentPosts = Property.ofValue(false);
+
+    @Schema(
+        title = "Priority aging",
+        description = "Number of later posts allowed to overtake a post per level of priority they have above it. Lower values poll low priority posts sooner."
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "advanced")
+    protected Property<Integer> priorityAging = Property.ofValue(50);
+
+    /**
+     * Renders the credentials, API base URL and version once, to derive all the requests of a poll from them. Requests
+     * don't wait for a throttled token past the polling interval, the next poll takes over.
+     */
+    protected LinkedinConnection createLinkedinConnection(RunContext runContext) throws Exception {
+        return LinkedinConnection.of(runContext, this, this.linkedinVersion, Property.ofValue(this.interval));
+    }
+
+    /**
+     * Loads the deduplication index of this trigger, or returns {@code null} when deduplication is disabled.
+     */
+    protected CommentDeduplicationIndex loadDeduplicationIndex(RunContext runContext, TriggerContext context) throws Exception {
+        if (!runContext.render(this.deduplicate).as(Boolean.class).orElse(false)) {
+            return null;
+        }
+
+        return CommentDeduplicationIndex.load(
+            runContext,
+            context.getNamespace(),
+            CommentDeduplicationIndex.stateKey(context.getFlowId(), context.getTriggerId()),
+            runContext.render(this.deduplicationCapacity).as(Integer.class).orElse(1000)
+        );
+    }
+
+    /**
+     * Lazily resolves the monitored posts: the ones listed in {@code postUrns} or {@code postUrnsFrom}, followed by the
+     * recent posts of {@code organizationUrn} when set.
+     */
+    protected Flux<String> monitoredPosts(RunContext runContext, HttpClient httpClient, LinkedinRequestTemplate template, TriggerContext context) throws Exception {
+        String rOrganizationUrn = runContext.render(this.organizationUrn).as(String.class).orElse(null);
+        if (rOrganizationUrn == null) {
+            return UrnSource.of(runContext, this.postUrns, "postUrns", this.postUrnsFrom, "postUrnsFrom");
+        }
+
+        Flux<String> listedPosts = this.postUrns != null || this.postUrnsFrom != null
+            ? UrnSource.of(runContext, this.postUrns, "postUrns", this.postUrnsFrom, "postUrnsFrom")
+            : Flux.empty();
+
+        String stateKey = OrganizationPostDiscovery.stateKey(context.getFlowId(), context.getTriggerId());
+        OrganizationPostDiscovery discovery = OrganizationPostDiscovery.load(
+            runContext,
+            context.getNamespace(),
+            stateKey,
+            rOrganizationUrn,
+            runContext.render(this.maxDiscoveredPosts).as(Integer.class).orElse(50)
+        );
+
+        // saved after every successful refresh, even without new posts, so the TTL of an active trigger's state is renewed
+        discovery.refresh(httpClient, template);
+        discovery.save(runContext, context.getNamespace(), stateKey, DISCOVERY_STATE_TTL);
+
+        List<String> discoveredPosts = discovery.postUrns();
+        runContext.logger().debug("Monitoring {} posts of {}", discoveredPosts.size(), rOrganizationUrn);
+
+        return listedPosts.concatWith(Flux.fromIterable(discoveredPosts));
+    }
+
+    /**
+     * Persists the deduplication index, dropping the posts that were not part of the last poll.
+     */
+    protected void saveDeduplicationIndex(RunContext runContext, TriggerContext context, CommentDeduplicationIndex index) throws Exception {
+        index.retainPolledPosts();
+        index.save(
+            runContext,
+            context.getNamespace(),
+            CommentDeduplicationIndex.stateKey(context.getFlowId(), context.getTriggerId()),
+            DEDUPLICATION_STATE_TTL
+        );
+    }
+
+    /**
+     * Fetches the comments created after {@code since} on each post, skipping the ones already present in the
+     * deduplication index when one is given.
+     */
+    protected List<CommentTrigger.CommentData> fetchNewComments(
+        RunContext runContext,
+        HttpClient httpClient,
+        LinkedinRequestTemplate template,
+        Iterable<String> postUrns,
+        Instant since,
+        CommentDeduplicationIndex deduplicationIndex
+    ) throws Exception {
+        List<CommentTrigger.CommentData> newComments = new ArrayList<>();
+        // the same actors comment on several posts, their comments share a single copy of the URN
+        UrnDictionary urns = new UrnDictionary();
+
+        if (deduplicationIndex != null) {
+            deduplicationIndex.startPoll();
+        }
+
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(4);
+        Double rMaxRequestsPerSecond = runContext.render(this.maxRequestsPerSecond).as(Double.class).orElse(null);
+        LinkedinRateLimiter rateLimiter = rMaxRequestsPerSecond != null ? new LinkedinRateLimiter(rMaxRequestsPerSecond) : null;
+
+        Flux<String> scheduledPosts = Flux.fromIterable(postUrns);
+        PostScheduler scheduler = PostScheduler.of(
+            this.priorities != null ? runContext.render(this.priorities).asMap(String.class, Integer.class) : null,
+            runContext.render(this.prioritizeRecentPosts).as(Boolean.class).orElse(false),
+            runContext.render(this.priorityAging).as(Integer.class).orElse(50),
+            rateLimiter
+        );
+        if (scheduler != null) {
+            scheduledPosts = scheduler.schedule(scheduledPosts);
+        }
+
+        // the posts are polled concurrently on virtual threads, their comments are then deduplicated in post order
+        Context tracingContext = Context.current();
+        Flux<PolledPost> polled = scheduledPosts
+            .flatMapSequential(
+                postUrn -> Mono.fromCallable(tracingContext.wrap(() -> new PolledPost(postUrn, this.fetchComments(httpClient, template, rateLimiter, postUrn))))
+                    .subscribeOn(LinkedinSchedulers.requests()),
+                rConcurrency,
+                1
+            );
+
+        try (Stream<PolledPost> posts = polled.toStream(rConcurrency)) {
+            for (Iterator<PolledPost> iterator = posts.iterator(); iterator.hasNext(); ) {
+                PolledPost post = iterator.next();
+                if (deduplicationIndex != null) {
+                    deduplicationIndex.markPolled(post.postUrn());
+                }
+
+                long newestComment = -1;
+                for (JsonNode element : post.elements()) {
+                    CommentTrigger.CommentData comment = parseCommentData(post.postUrn(), element, since, urns);
+                    if (comment == null) {
+                        continue;
+                    }
+
+                    newestComment = Math.max(newestComment, comment.createdTimeMillis());
+                    if (deduplicationIndex == null || deduplicationIndex.markSeen(post.postUrn(), CommentDeduplicationIndex.commentKey(comment))) {
+                        newComments.add(comment);
+                    }
+                }
+                PostScheduler.recordActivity(post.postUrn(), newestComment);
+            }
+        } catch (RuntimeException e) {
+            // rethrow the original error of the request rather than its reactive wrapper
+            if (Exceptions.unwrap(e) instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        if (!newComments.isEmpty() && runContext.render(this.enrichActors).as(Boolean.class).orElse(false)) {
+            return enrichActors(runContext, httpClient, template, newComments);
+        }
+
+        return newComments;
+    }
+
+    private JsonNode fetchComments(HttpClient httpClient, LinkedinRequestTemplate template, LinkedinRateLimiter rateLimiter, String postUrn) throws Exception {
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+
+        return LinkedinTracing.inSpan("linkedin.fetch_comments", span -> {
+            span.setAttribute(LinkedinTracing.URN, postUrn);
+
+            String path = "/socialActions/" + URLEncoder.encode(postUrn, StandardCharsets.UTF_8) + "/comments";
+            JsonNode elements = template.fetchJson(httpClient, path).path("elements");
+            span.setAttribute(LinkedinTracing.ELEMENTS, (long) elements.size());
+            return elements;
+        });
+    }
+
+    private record PolledPost(String postUrn, JsonNode elements) {
+    }
+
+    private List<CommentTrigger.CommentData> enrichActors(
+        RunContext runContext,
+        HttpClient httpClient,
+        LinkedinRequestTemplate template,
+        List<CommentTrigger.CommentData> comments
+    ) throws Exception {
+        ActorProfileResolver actorProfileResolver = new ActorProfileResolver(
+            runContext,
+            httpClient,
+            template,
+            runContext.render(this.actorCacheTtl).as(Duration.class).orElse(Duration.ofHours(24)),
+            runContext.render(this.actorCacheInKvStore).as(Boolean.class).orElse(false) ? runContext.flowInfo().namespace() : null
+        );
+
+        Map<String, ActorProfile> profiles = actorProfileResolver.resolve(
+            comments.stream().map(CommentTrigger.CommentData::getActorUrn).toList()
+        );
+
+        return comments.stream()
+            .map(comment -> comment.toBuilder().actor(profiles.get(comment.getActorUrn())).build())
+            .toList();
+    }
+
+    /**
+     * Builds the trigger output of a set of comments, flattening the most recent one into the top-level fields.
+     */
+    protected static CommentTrigger.Output toOutput(List<CommentTrigger.CommentData> comments) {
+        CommentTrigger.CommentData latest = comments.stream()
+            .max(Comparator.comparingLong(CommentTrigger.CommentData::createdTimeMillis))
+            .orElse(comments.getFirst());
+
+        return CommentTrigger.Output.builder()
+            .postUrn(latest.getPostUrn())
+            .commentId(latest.getCommentId())
+            .commentUrn(latest.getCommentUrn())
+            .commentText(latest.getCommentText())
+            .actorUrn(latest.getActorUrn())
+            .agentUrn(latest.getAgentUrn())
+            .createdTime(latest.getCreatedTime())
+            .newCommentsCount(comments.size())
+            .allNewComments(comments)
+            .build();
+    }
+
+    private CommentTrigger.CommentData parseCommentData(String postUrn, JsonNode commentObj, Instant lastCheckTime, UrnDictionary urns) {
+        if (!commentObj.has("created") || !commentObj.has("message")) {
+            return null;
+        }
+
+        JsonNode created = commentObj.get("created");
+        if (!created.has("time")) {
+            return null;
+        }
+
+        long createdTime = created.get("time").asLong();
+
+        // Only include comments created after the last check
+        if (createdTime <= lastCheckTime.toEpochMilli()) {
+            return null;
+        }
+
+        JsonNode message = commentObj.get("message");
+        String commentText = message.has("text") ? message.get("text").asText() : "";
+        String commentId = commentObj.has("id") ? commentObj.get("id").asText() : null;
+        String commentUrn = commentObj.has("commentUrn") ? commentObj.get("commentUrn").asText() : null;
+        String actorUrn = commentObj.has("actor") ? urns.intern(commentObj.get("actor").asText()) : null;
+        String agentUrn = commentObj.has("agent") ? urns.intern(commentObj.get("agent").asText()) : null;
+
+        return CommentTrigger.CommentData.builder()
+            .postUrn(postUrn)
+            .commentId(commentId)
+            .commentUrn(commentUrn)
+            .commentText(commentText)
+            .actorUrn(actorUrn)
+            .agentUrn(agentUrn)
+            .createdTime(createdTime)
+            .build();
+    }
+}
@@ -1,18 +1,17 @@
 package io.kestra.plugin.linkedin;
 
-import io.kestra.core.http.client.*;
-import io.kestra.core.http.client.configurations.*;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import io.kestra.core.models.annotations.PluginProperty;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 import java.util.Set;
 
 @SuperBuilder
@@ -20,7 +19,7 @@ import java.util.Set;
 @EqualsAndHashCode
 @Getter
 @NoArgsConstructor
-public abstract class AbstractLinkedinTask extends Task {
+public abstract class AbstractLinkedinTask extends Task implements LinkedinConnectionInterface {
 
     /**
      * Allow-list of hosts that {@code apiBaseUrl} (and related connection properties) may point
@@ -33,12 +32,20 @@ public abstract class AbstractLinkedinTask extends Task {
         "linkedin.com"
     );
 
-    @Schema(title = "Access Token", description = "OAuth2 access token sent as Bearer auth for LinkedIn REST API calls")
-    @NotNull
+    @Schema(title = "Access Token", description = "OAuth2 access token sent as Bearer auth for LinkedIn REST API calls; required unless `accessTokens` is set")
     @PluginProperty(secret = true, group = "main")
     @ToString.Exclude
     protected Property<String> accessToken;
 
+    @Schema(
+        title = "Access Tokens pool",
+        description = "Several OAuth2 access tokens, e.g. of different LinkedIn apps, to spread the requests across; exclusive with `accessToken`. " +
+            "Each request uses the token with the fewest requests in flight, and a token answered with 401 or 429 is left out of the rotation for a while, the request being retried with another token unless it publishes content or uploads media."
+    )
+    @PluginProperty(secret = true, group = "main")
+    @ToString.Exclude
+    protected Property<List<String>> accessTokens;
+
     @Schema(title = "Application Name", description = "Application identifier included in requests; defaults to `kestra-linkedin-plugin`")
     @Builder.Default
     @PluginProperty(group = "advanced")
@@ -52,27 +59,27 @@ public abstract class AbstractLinkedinTask extends Task {
     @Schema(title = "Base API URL", description = "LinkedIn REST base URL; defaults to `https://api.linkedin.com/rest`")
     @Builder.Default
     @PluginProperty(group = "connection")
-    protected Property<String> apiBaseUrl = Property.ofValue("https://api.linkedin.com/rest");
+    protected Property<String> apiBaseUrl = Property.ofValue(LinkedinRequestTemplate.DEFAULT_BASE_URL);
 
-    protected HttpClient createLinkedinHttpRequestFactory(RunContext runContext) throws Exception {
-        String rAccessToken = runContext.render(this.accessToken).as(String.class).orElseThrow();
+    @Schema(
+        title = "Coalesce requests",
+        description = "Opt-in: identical LinkedIn GET requests sent with the same credentials by any execution of the worker share one call while in flight, and its answer for `coalescingTtl` after, saving quota when several flows read the same posts. A run may then see an answer up to `coalescingTtl` old."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Boolean> coalesceRequests = Property.ofValue(false);
 
-        HttpConfiguration httpConfiguration = HttpConfiguration.builder()
-            .auth(
-                BearerAuthConfiguration.builder()
-                    .token(Property.ofValue(rAccessToken))
-                    .build()
-            )
-            .build();
-        return HttpClient.builder()
-            .runContext(runContext)
-            .configuration(httpConfiguration)
-            .build();
-    }
+    @Schema(title = "Coalescing TTL", description = "How long the answer of a request is reused by identical requests; `PT0S` only shares the requests in flight")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    protected Property<Duration> coalescingTtl = Property.ofValue(LinkedinConnection.DEFAULT_COALESCING_TTL);
 
-    protected String getLinkedinApiBaseUrl(RunContext runContext) throws Exception {
-        String rApiBaseUrl = runContext.render(this.apiBaseUrl).as(String.class).orElse("https://api.linkedin.com/rest");
-        return validateLinkedinHost(rApiBaseUrl);
+    /**
+     * Renders the credentials, base URL and API version once; reuse the returned connection for all the requests of the run.
+     * Requests don't wait for a throttled token past the task timeout.
+     */
+    protected LinkedinConnection createLinkedinConnection(RunContext runContext) throws Exception {
+        return LinkedinConnection.of(runContext, this, this.apiVersion, this.getTimeout());
     }
 
     /**
@@ -0,0 +1,24 @@
+package io.kestra.plugin.linkedin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Display information of a person or organization URN, resolved by the actor enrichment of the LinkedIn tasks and triggers.
+ */
+@Builder
+@Getter
+public class ActorProfile {
+    @Schema(title = "Actor URN")
+    private final String urn;
+
+    @Schema(title = "Display name", description = "Full name of a person or localized name of an organization")
+    private final String name;
+
+    @Schema(title = "Headline", description = "Headline of a person; not set for organizations")
+    private final String headline;
+
+    @Schema(title = "Vanity name", description = "Public profile or page identifier, when available")
+    private final String vanityName;
+}
@@ -0,0 +1,56 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded, expiring LRU cache of resolved actor profiles.
+ * <p>
+ * A single instance is shared by every task and trigger running in the same worker, so active members resolved by one
+ * execution are reused by the next ones.
+ */
+final class ActorProfileCache {
+    static final ActorProfileCache SHARED = new ActorProfileCache(10_000);
+
+    private final Map<String, Entry> entries;
+
+    ActorProfileCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    synchronized ActorProfile get(String urn) {
+        Entry entry = this.entries.get(urn);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt().isBefore(Instant.now())) {
+            this.entries.remove(urn);
+            return null;
+        }
+
+        return entry.profile();
+    }
+
+    synchronized void put(ActorProfile profile, Duration ttl) {
+        this.entries.put(profile.getUrn(), new Entry(profile, Instant.now().plus(ttl)));
+    }
+
+    synchronized int size() {
+        return this.entries.size();
+    }
+
+    synchronized void clear() {
+        this.entries.clear();
+    }
+
+    private record Entry(ActorProfile profile, Instant expiresAt) {
+    }
+}
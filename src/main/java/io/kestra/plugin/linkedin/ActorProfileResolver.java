@@ -0,0 +1,206 @@
+package io.kestra.plugin.linkedin;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Batch-resolves person and organization URNs into {@link ActorProfile}s.
+ * <p>
+ * Lookups go through the worker-wide {@link ActorProfileCache} first, then the namespace KV store when enabled, and
+ * only the remaining URNs are requested from LinkedIn, {@value #BATCH_SIZE} per request.
+ */
+final class ActorProfileResolver {
+    static final int BATCH_SIZE = 50;
+
+    private static final String PERSON_PREFIX = "urn:li:person:";
+    private static final String ORGANIZATION_PREFIX = "urn:li:organization:";
+
+    private final RunContext runContext;
+    private final HttpClient httpClient;
+    private final LinkedinRequestTemplate template;
+    private final Duration ttl;
+    private final KVStore kvStore;
+    private final ActorProfileCache cache;
+
+    ActorProfileResolver(RunContext runContext, HttpClient httpClient, LinkedinRequestTemplate template, Duration ttl, String kvNamespace) {
+        this(runContext, httpClient, template, ttl, kvNamespace, ActorProfileCache.SHARED);
+    }
+
+    ActorProfileResolver(RunContext runContext, HttpClient httpClient, LinkedinRequestTemplate template, Duration ttl, String kvNamespace, ActorProfileCache cache) {
+        this.runContext = runContext;
+        this.httpClient = httpClient;
+        this.template = template;
+        this.ttl = ttl;
+        this.kvStore = kvNamespace != null ? runContext.namespaceKv(kvNamespace) : null;
+        this.cache = cache;
+    }
+
+    /**
+     * Resolves the given URNs; URNs that are neither persons nor organizations, or that cannot be resolved, are absent from the result.
+     */
+    Map<String, ActorProfile> resolve(Collection<String> urns) {
+        Map<String, ActorProfile> profiles = new HashMap<>();
+        List<String> persons = new ArrayList<>();
+        List<String> organizations = new ArrayList<>();
+
+        for (String urn : new LinkedHashSet<>(urns)) {
+            if (urn == null || !(urn.startsWith(PERSON_PREFIX) || urn.startsWith(ORGANIZATION_PREFIX))) {
+                continue;
+            }
+
+            ActorProfile profile = this.cache.get(urn);
+            if (profile == null) {
+                profile = this.loadFromKv(urn);
+                if (profile != null) {
+                    this.cache.put(profile, this.ttl);
+                }
+            }
+
+            if (profile != null) {
+                profiles.put(urn, profile);
+            } else if (urn.startsWith(PERSON_PREFIX)) {
+                persons.add(urn);
+            } else {
+                organizations.add(urn);
+            }
+        }
+
+        for (int i = 0; i < persons.size(); i += BATCH_SIZE) {
+            List<String> batch = persons.subList(i, Math.min(i + BATCH_SIZE, persons.size()));
+            this.fetch(
+                batch,
+                PERSON_PREFIX,
+                ids -> "/people?ids=List(" + ids.stream().map(id -> "(id:" + encode(id) + ")").collect(Collectors.joining(",")) + ")",
+                id -> "(id:" + id + ")",
+                ActorProfileResolver::parsePerson,
+                profiles
+            );
+        }
+
+        for (int i = 0; i < organizations.size(); i += BATCH_SIZE) {
+            List<String> batch = organizations.subList(i, Math.min(i + BATCH_SIZE, organizations.size()));
+            this.fetch(
+                batch,
+                ORGANIZATION_PREFIX,
+                ids -> "/organizationsLookup?ids=List(" + ids.stream().map(ActorProfileResolver::encode).collect(Collectors.joining(",")) + ")",
+                Function.identity(),
+                ActorProfileResolver::parseOrganization,
+                profiles
+            );
+        }
+
+        return profiles;
+    }
+
+    private void fetch(
+        List<String> urns,
+        String prefix,
+        Function<List<String>, String> path,
+        Function<String, String> resultKey,
+        BiFunction<String, JsonNode, ActorProfile> parser,
+        Map<String, ActorProfile> profiles
+    ) {
+        List<String> ids = urns.stream().map(urn -> urn.substring(prefix.length())).toList();
+
+        try {
+            JsonNode results = this.template.fetchJson(this.httpClient, path.apply(ids)).path("results");
+
+            for (String id : ids) {
+                JsonNode result = results.get(resultKey.apply(id));
+                if (result == null) {
+                    continue;
+                }
+
+                ActorProfile profile = parser.apply(prefix + id, result);
+                profiles.put(profile.getUrn(), profile);
+                this.cache.put(profile, this.ttl);
+                this.saveToKv(profile);
+            }
+        } catch (Exception e) {
+            // enrichment is best effort, missing permissions or throttling must not fail the run
+            this.runContext.logger().warn("Unable to resolve {} actor profiles: {}", urns.size(), e.getMessage());
+        }
+    }
+
+    private ActorProfile loadFromKv(String urn) {
+        if (this.kvStore == null) {
+            return null;
+        }
+
+        try {
+            Optional<KVValue> stored = this.kvStore.getValue(kvKey(urn));
+            if (stored.isPresent() && stored.get().value() instanceof Map<?, ?> map) {
+                return ActorProfile.builder()
+                    .urn(urn)
+                    .name((String) map.get("name"))
+                    .headline((String) map.get("headline"))
+                    .vanityName((String) map.get("vanityName"))
+                    .build();
+            }
+        } catch (Exception e) {
+            this.runContext.logger().debug("Unable to read cached actor profile of {}", urn, e);
+        }
+
+        return null;
+    }
+
+    private void saveToKv(ActorProfile profile) {
+        if (this.kvStore == null) {
+            return;
+        }
+
+        Map<String, Object> value = new HashMap<>();
+        value.put("name", profile.getName());
+        value.put("headline", profile.getHeadline());
+        value.put("vanityName", profile.getVanityName());
+
+        try {
+            this.kvStore.put(kvKey(profile.getUrn()), new KVValueAndMetadata(new KVMetadata("LinkedIn actor profile", this.ttl), value));
+        } catch (Exception e) {
+            this.runContext.logger().debug("Unable to cache actor profile of {}", profile.getUrn(), e);
+        }
+    }
+
+    static String kvKey(String urn) {
+        return ("linkedin_actor." + urn).replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    static ActorProfile parsePerson(String urn, JsonNode person) {
+        String firstName = person.path("localizedFirstName").asText("");
+        String lastName = person.path("localizedLastName").asText("");
+        String name = (firstName + " " + lastName).trim();
+
+        return ActorProfile.builder()
+            .urn(urn)
+            .name(name.isEmpty() ? null : name)
+            .headline(person.has("localizedHeadline") ? person.get("localizedHeadline").asText() : null)
+            .vanityName(person.has("vanityName") ? person.get("vanityName").asText() : null)
+            .build();
+    }
+
+    static ActorProfile parseOrganization(String urn, JsonNode organization) {
+        return ActorProfile.builder()
+            .urn(urn)
+            .name(organization.has("localizedName") ? organization.get("localizedName").asText() : null)
+            .vanityName(organization.has("vanityName") ? organization.get("vanityName").asText() : null)
+            .build();
+    }
+
+    private static String encode(String id) {
+        return URLEncoder.encode(id, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,174 @@
+package io.kestra.plugin.linkedin;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Bounded index of already emitted comments, persisted in the namespace KV store between trigger evaluations.
+ * <p>
+ * Each monitored post owns a fixed-size ring of 64-bit comment hashes, so memory stays constant per post
+ * and a lookup is a linear scan over a primitive array.
+ */
+final class CommentDeduplicationIndex {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int capacityPerPost;
+    private final Map<String, Ring> rings = new HashMap<>();
+    private final Set<String> polledPosts = new HashSet<>();
+
+    private CommentDeduplicationIndex(int capacityPerPost) {
+        if (capacityPerPost <= 0) {
+            throw new IllegalArgumentException("Deduplication capacity must be strictly positive, got " + capacityPerPost);
+        }
+        this.capacityPerPost = capacityPerPost;
+    }
+
+    static CommentDeduplicationIndex empty(int capacityPerPost) {
+        return new CommentDeduplicationIndex(capacityPerPost);
+    }
+
+    @SuppressWarnings("unchecked")
+    static CommentDeduplicationIndex load(RunContext runContext, String namespace, String key, int capacityPerPost) throws Exception {
+        CommentDeduplicationIndex index = new CommentDeduplicationIndex(capacityPerPost);
+
+        KVStore kvStore = runContext.namespaceKv(namespace);
+        Optional<KVValue> stored = kvStore.getValue(key);
+        if (stored.isEmpty() || !(stored.get().value() instanceof Map<?, ?> state)) {
+            return index;
+        }
+
+        for (Map.Entry<?, ?> entry : state.entrySet()) {
+            if (entry.getValue() instanceof List<?> hashes) {
+                Ring ring = index.ring(String.valueOf(entry.getKey()));
+                // hashes are stored oldest first, replaying them keeps the eviction order
+                for (Object hash : hashes) {
+                    if (hash instanceof Number number) {
+                        ring.add(number.longValue());
+                    }
+                }
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Records a comment as emitted.
+     *
+     * @return {@code true} if the comment was not seen before, {@code false} if it is a duplicate
+     */
+    boolean markSeen(String postUrn, String commentKey) {
+        long hash = hash(commentKey);
+        Ring ring = this.ring(postUrn);
+        if (ring.contains(hash)) {
+            return false;
+        }
+
+        ring.add(hash);
+        return true;
+    }
+
+    void startPoll() {
+        this.polledPosts.clear();
+    }
+
+    void markPolled(String postUrn) {
+        this.polledPosts.add(postUrn);
+    }
+
+    /**
+     * Drops the entries of posts that are no longer monitored, so the persisted state stays bounded by the current post list.
+     */
+    void retainPosts(Collection<String> postUrns) {
+        this.rings.keySet().retainAll(postUrns instanceof Set<?> ? postUrns : new HashSet<>(postUrns));
+    }
+
+    /**
+     * Drops the entries of posts that were not part of the last poll.
+     */
+    void retainPolledPosts() {
+        this.retainPosts(this.polledPosts);
+    }
+
+    void save(RunContext runContext, String namespace, String key, Duration ttl) throws Exception {
+        Map<String, List<Long>> state = new HashMap<>();
+        this.rings.forEach((postUrn, ring) -> state.put(postUrn, ring.toList()));
+
+        runContext.namespaceKv(namespace).put(
+            key,
+            new KVValueAndMetadata(new KVMetadata("LinkedIn CommentTrigger deduplication index", ttl), state)
+        );
+    }
+
+    static String stateKey(String flowId, String triggerId) {
+        return ("linkedin_comment_trigger." + flowId + "." + triggerId).replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    static String commentKey(CommentTrigger.CommentData comment) {
+        if (comment.getCommentUrn() != null) {
+            return comment.getCommentUrn();
+        }
+
+        return comment.getPostUrn() + "#" + comment.getCommentId() + "#" + comment.createdTimeMillis();
+    }
+
+    private Ring ring(String postUrn) {
+        return this.rings.computeIfAbsent(postUrn, k -> new Ring(this.capacityPerPost));
+    }
+
+    /**
+     * 64-bit FNV-1a, collisions over a few thousand URNs per post are negligible.
+     */
+    static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static final class Ring {
+        private final long[] hashes;
+        private int size;
+        private int next;
+
+        private Ring(int capacity) {
+            this.hashes = new long[capacity];
+        }
+
+        private boolean contains(long hash) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.hashes[i] == hash) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(long hash) {
+            this.hashes[this.next] = hash;
+            this.next = (this.next + 1) % this.hashes.length;
+            if (this.size < this.hashes.length) {
+                this.size++;
+            }
+        }
+
+        private List<Long> toList() {
+            List<Long> list = new ArrayList<>(this.size);
+            int start = this.size < this.hashes.length ? 0 : this.next;
+            for (int i = 0; i < this.size; i++) {
+                list.add(this.hashes[(start + i) % this.hashes.length]);
+            }
+            return list;
+        }
+    }
+}
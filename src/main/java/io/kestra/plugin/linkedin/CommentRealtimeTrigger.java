@@ -0,0 +1,219 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.*;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Stream new LinkedIn comments as executions",
+    description = "Continuously polls LinkedIn posts for new comments and starts one execution per comment, or per batch of `batchSize` comments, so downstream processing can be spread across workers. Uses the same bearer access token, LinkedIn-Version header and deduplication index as the polling `CommentTrigger`."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Start one execution per new comment",
+            full = true,
+            code = """
+                id: linkedin_comment_stream
+                namespace: company.team
+
+                tasks:
+                  - id: log
+                    type: io.kestra.plugin.core.log.Log
+                    message: "New comment from {{ trigger.actorUrn }}: {{ trigger.commentText }}"
+
+                triggers:
+                  - id: comment_stream
+                    type: io.kestra.plugin.linkedin.CommentRealtimeTrigger
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    postUrns:
+                      - "urn:li:activity:7374025671234244609"
+                    interval: PT5M
+                """
+        ),
+        @Example(
+            title = "Start one execution per batch of 20 comments",
+            full = true,
+            code = """
+                id: linkedin_comment_batches
+                namespace: company.team
+
+                tasks:
+                  - id: process
+                    type: io.kestra.plugin.core.log.Log
+                    message: "{{ trigger.newCommentsCount }} comments received"
+
+                triggers:
+                  - id: comment_batches
+                    type: io.kestra.plugin.linkedin.CommentRealtimeTrigger
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    postUrns:
+                      - "urn:li:activity:7374025671234244609"
+                      - "urn:li:activity:7374025671234244610"
+                    batchSize: 20
+                """
+        )
+    }
+)
+public class CommentRealtimeTrigger extends AbstractCommentTrigger
+    implements RealtimeTriggerInterface, TriggerOutput<CommentTrigger.Output> {
+
+    @Schema(
+        title = "Comments per execution",
+        description = "Maximum number of comments carried by each execution; `1` starts one execution per comment"
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> batchSize = Property.ofValue(1);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicBoolean isActive = new AtomicBoolean(true);
+
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final CountDownLatch waitForTermination = new CountDownLatch(1);
+
+    @Override
+    public Publisher<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
+        RunContext runContext = conditionContext.getRunContext();
+        int rBatchSize = runContext.render(this.batchSize).as(Integer.class).orElse(1);
+        CommentDeduplicationIndex deduplicationIndex = loadDeduplicationIndex(runContext, context);
+        LinkedinConnection connection = createLinkedinConnection(runContext);
+        LinkedinRequestTemplate template = connection.template();
+        HttpClient httpClient = connection.httpClient(runContext);
+
+        // the overlap is only safe when already emitted comments are filtered out by the index
+        Duration lookBack = deduplicationIndex != null ? this.interval.multipliedBy(2) : this.interval;
+        Instant[] since = new Instant[]{Instant.now().minus(lookBack)};
+
+        return Flux.interval(Duration.ZERO, this.interval)
+            // check for stop requests every second instead of waiting for the next poll
+            .takeUntilOther(Flux.interval(Duration.ofSeconds(1)).filter(tick -> !this.isActive.get()))
+            .onBackpressureDrop()
+            .concatMap(
+                tick -> Mono.fromCallable(() -> {
+                        Instant pollStart = Instant.now();
+                        List<CommentTrigger.CommentData> comments = fetchNewComments(runContext, httpClient, template, monitoredPosts(runContext, httpClient, template, context).toIterable(), since[0], deduplicationIndex);
+
+                        if (deduplicationIndex != null) {
+                            // saved on empty polls too, so the posts no longer monitored are pruned
+                            saveDeduplicationIndex(runContext, context, deduplicationIndex);
+                        }
+
+                        since[0] = deduplicationIndex != null ? pollStart.minus(this.interval) : pollStart;
+                        runContext.logger().debug("Found {} new comments", comments.size());
+                        return comments;
+                    })
+                    .subscribeOn(LinkedinSchedulers.requests())
+                    .onErrorResume(CommentRealtimeTrigger::isTransient, e -> {
+                        // the comments are caught up by the next poll, since is only moved forward on success
+                        if (e instanceof LinkedinCircuitBreaker.OpenException) {
+                            runContext.logger().warn("Skipping comments check: {}", e.getMessage());
+                        } else {
+                            runContext.logger().warn("Error checking for new comments, retrying on the next poll", e);
+                        }
+                        return Mono.just(List.of());
+                    })
+            )
+            .flatMapIterable(comments -> batches(comments, rBatchSize))
+            .map(batch -> TriggerService.generateRealtimeExecution(this, conditionContext, context, toOutput(batch)))
+            .doFinally(signalType -> {
+                try {
+                    httpClient.close();
+                } catch (Exception e) {
+                    runContext.logger().warn("Unable to close the LinkedIn HTTP client", e);
+                }
+                this.waitForTermination.countDown();
+            });
+    }
+
+    /**
+     * @return whether the next poll may succeed where this one failed; LinkedIn answers in 4xx other than 429, e.g. a
+     * revoked token or a deleted post, won't change by polling again
+     */
+    static boolean isTransient(Throwable error) {
+        if (error instanceof HttpClientResponseException responseException && responseException.getResponse() != null) {
+            int status = responseException.getResponse().getStatus().getCode();
+            return status < 400 || status >= 500 || status == 429;
+        }
+
+        return true;
+    }
+
+    /**
+     * Splits comments into batches of at most {@code batchSize}, oldest first, so executions are started in comment order.
+     */
+    static List<List<CommentTrigger.CommentData>> batches(List<CommentTrigger.CommentData> comments, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be strictly positive, got " + batchSize);
+        }
+
+        List<CommentTrigger.CommentData> sorted = new ArrayList<>(comments);
+        sorted.sort(Comparator.comparing(CommentTrigger.CommentData::getCreatedTime));
+
+        List<List<CommentTrigger.CommentData>> batches = new ArrayList<>((sorted.size() + batchSize - 1) / batchSize);
+        for (int i = 0; i < sorted.size(); i += batchSize) {
+            batches.add(List.copyOf(sorted.subList(i, Math.min(i + batchSize, sorted.size()))));
+        }
+        return batches;
+    }
+
+    @Override
+    public void kill() {
+        stop(true);
+    }
+
+    @Override
+    public void stop() {
+        stop(false);
+    }
+
+    private void stop(boolean wait) {
+        if (!this.isActive.compareAndSet(true, false)) {
+            return;
+        }
+
+        if (wait) {
+            try {
+                this.waitForTermination.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,35 +1,23 @@
 package io.kestra.plugin.linkedin;
 
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import com.fasterxml.jackson.databind.JsonNode;
-
-import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
-import io.kestra.core.http.client.configurations.BearerAuthConfiguration;
-import io.kestra.core.http.client.configurations.HttpConfiguration;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.conditions.ConditionContext;
 import io.kestra.core.models.executions.Execution;
-import io.kestra.core.models.property.Property;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
 
 @SuperBuilder
 @ToString
@@ -38,7 +26,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @Schema(
     title = "Trigger on new LinkedIn comments",
-    description = "Polls LinkedIn posts for newly created comments and starts an execution when found. Uses bearer access token, LinkedIn-Version header (default 202509), and X-Restli-Protocol-Version 2.0.0 on each poll."
+    description = "Polls LinkedIn posts for newly created comments and starts an execution when found. Uses bearer access token, the `linkedinVersion` LinkedIn-Version header (default 202509), and X-Restli-Protocol-Version 2.0.0 on each poll, against `apiBaseUrl`."
 )
 @Plugin(
     examples = {
@@ -83,38 +71,28 @@ import lombok.experimental.SuperBuilder;
                       - "urn:li:activity:7374025671234244610"
                     interval: PT15M
                 """
+        ),
+        @Example(
+            title = "Monitor the recent posts of an organization for comments",
+            full = true,
+            code = """
+                id: linkedin_organization_comments
+                namespace: company.team
+
+                triggers:
+                  - id: organization_comments
+                    type: io.kestra.plugin.linkedin.CommentTrigger
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    organizationUrn: "urn:li:organization:2414183"
+                    maxDiscoveredPosts: 20
+                    interval: PT15M
+                """
         )
     }
 )
-public class CommentTrigger extends AbstractTrigger
+public class CommentTrigger extends AbstractCommentTrigger
     implements PollingTriggerInterface, TriggerOutput<CommentTrigger.Output> {
 
-    @Schema(title = "Access Token", description = "OAuth2 access token sent as Bearer auth for LinkedIn REST API")
-    @NotNull
-    @PluginProperty(secret = true, group = "main")
-    @ToString.Exclude
-    private Property<String> accessToken;
-
-    @Schema(title = "Post URNs", description = "List of LinkedIn post URNs to monitor for new comments")
-    @NotNull
-    @PluginProperty(group = "main")
-    private Property<List<String>> postUrns;
-
-    @Schema(title = "Polling interval", description = "How often to check for new comments")
-    @PluginProperty(group = "execution")
-    @Builder.Default
-    private Duration interval = Duration.ofMinutes(30);
-
-    @Schema(title = "LinkedIn API Version", description = "LinkedIn-Version header value; defaults to 202509")
-    @Builder.Default
-    @PluginProperty(group = "advanced")
-    private Property<String> linkedinVersion = Property.ofValue("202509");
-
-    @Schema(title = "Application Name", description = "Application identifier included in requests; defaults to kestra-linkedin-plugin")
-    @Builder.Default
-    @PluginProperty(group = "advanced")
-    private Property<String> applicationName = Property.ofValue("kestra-linkedin-plugin");
-
     @Override
     public Duration getInterval() {
         return this.interval;
@@ -123,133 +101,58 @@ public class CommentTrigger extends AbstractTrigger
     @Override
     public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) throws Exception {
         RunContext runContext = conditionContext.getRunContext();
-        String rAccessToken = runContext.render(this.accessToken).as(String.class).orElseThrow();
-        List<String> rPostUrns = runContext.render(this.postUrns).asList(String.class);
-        String rLinkedinVersion = runContext.render(this.linkedinVersion).as(String.class).orElse("202509");
+        runContext.logger().info("Checking for new comments");
 
-        HttpConfiguration httpConfiguration = HttpConfiguration.builder()
-            .auth(
-                BearerAuthConfiguration.builder()
-                    .token(Property.ofValue(rAccessToken))
-                    .build()
-            )
-            .build();
-        List<String> postsToMonitor = new ArrayList<>();
-
-        postsToMonitor.addAll(rPostUrns);
-
-        runContext.logger().info("Checking for new comments on {} posts", postsToMonitor.size());
+        CommentDeduplicationIndex deduplicationIndex = loadDeduplicationIndex(runContext, context);
 
         Instant lastCheckTime = context.getNextExecutionDate() != null
             ? context.getNextExecutionDate().toInstant().minus(this.interval)
             : Instant.now().minus(this.interval);
 
-        List<CommentData> newComments = new ArrayList<>();
-
-        try (
-            HttpClient httpClient = HttpClient.builder()
-                .runContext(runContext)
-                .configuration(httpConfiguration)
-                .build()
-        ) {
-            for (String postUrn : postsToMonitor) {
-                String encodedUrn = URLEncoder.encode(postUrn, StandardCharsets.UTF_8);
-                String apiUrl = "https://api.linkedin.com/rest/socialActions/" + encodedUrn + "/comments";
-
-                HttpRequest request = HttpRequest.builder()
-                    .uri(URI.create(apiUrl))
-                    .method("GET")
-                    .addHeader("LinkedIn-Version", rLinkedinVersion)
-                    .addHeader("X-Restli-Protocol-Version", "2.0.0")
-                    .build();
-
-                HttpResponse<String> response = httpClient.request(request, String.class);
-                String responseBody = response.getBody();
-
-                JsonNode jsonResponse = JacksonMapper.ofIon().readTree(responseBody);
+        if (deduplicationIndex != null) {
+            // the index filters out already emitted comments, so overlapping windows are safe
+            lastCheckTime = lastCheckTime.minus(this.interval);
+        }
 
-                if (jsonResponse.has("elements")) {
-                    JsonNode elements = jsonResponse.get("elements");
+        LinkedinConnection connection = createLinkedinConnection(runContext);
+        LinkedinRequestTemplate template = connection.template();
 
-                    for (JsonNode element : elements) {
-                        CommentData comment = parseCommentData(postUrn, element, lastCheckTime);
+        try (HttpClient httpClient = connection.httpClient(runContext)) {
+            Flux<String> postsToMonitor = monitoredPosts(runContext, httpClient, template, context);
+            List<CommentData> newComments = fetchNewComments(runContext, httpClient, template, postsToMonitor.toIterable(), lastCheckTime, deduplicationIndex);
 
-                        if (comment != null) {
-                            newComments.add(comment);
-                        }
-                    }
+            if (newComments.isEmpty()) {
+                if (deduplicationIndex != null) {
+                    // saved on empty polls too, so the posts no longer monitored are pruned
+                    saveDeduplicationIndex(runContext, context, deduplicationIndex);
                 }
-            }
 
-            if (newComments.isEmpty()) {
                 runContext.logger().info("No new comments found since last check");
                 return Optional.empty();
             }
 
             runContext.logger().info("Found {} new comments", newComments.size());
 
-            // Get the most recent comment for the output
-            CommentData latest = newComments.stream()
-                .max((c1, c2) -> c1.getCreatedTime().compareTo(c2.getCreatedTime()))
-                .orElse(newComments.getFirst());
-
-            Output output = Output.builder()
-                .postUrn(latest.getPostUrn())
-                .commentId(latest.getCommentId())
-                .commentUrn(latest.getCommentUrn())
-                .commentText(latest.getCommentText())
-                .actorUrn(latest.getActorUrn())
-                .agentUrn(latest.getAgentUrn())
-                .createdTime(latest.getCreatedTime())
-                .newCommentsCount(newComments.size())
-                .allNewComments(newComments)
-                .build();
-
-            Execution execution = TriggerService.generateExecution(this, conditionContext, context, output);
+            Execution execution = TriggerService.generateExecution(this, conditionContext, context, toOutput(newComments));
+
+            if (deduplicationIndex != null) {
+                // persisted once the execution is built, the last step before it is handed to the scheduler: an evaluation
+                // failing before this point leaves the index untouched and its retry emits the same comments again
+                saveDeduplicationIndex(runContext, context, deduplicationIndex);
+            }
+
             return Optional.of(execution);
 
+        } catch (LinkedinCircuitBreaker.OpenException e) {
+            // skip this poll instead of waiting for timeouts, the next ones will catch up through the look-back window
+            runContext.logger().warn("Skipping comments check: {}", e.getMessage());
+            return Optional.empty();
         } catch (Exception e) {
             runContext.logger().error("Error checking for new comments", e);
             throw new RuntimeException("Failed to check for new comments: " + e.getMessage(), e);
         }
     }
 
-    private CommentData parseCommentData(String postUrn, JsonNode commentObj, Instant lastCheckTime) {
-        if (!commentObj.has("created") || !commentObj.has("message")) {
-            return null;
-        }
-
-        JsonNode created = commentObj.get("created");
-        if (!created.has("time")) {
-            return null;
-        }
-
-        long createdTimeMs = created.get("time").asLong();
-        Instant createdTime = Instant.ofEpochMilli(createdTimeMs);
-
-        // Only include comments created after the last check
-        if (!createdTime.isAfter(lastCheckTime)) {
-            return null;
-        }
-
-        JsonNode message = commentObj.get("message");
-        String commentText = message.has("text") ? message.get("text").asText() : "";
-        String commentId = commentObj.has("id") ? commentObj.get("id").asText() : null;
-        String commentUrn = commentObj.has("commentUrn") ? commentObj.get("commentUrn").asText() : null;
-        String actorUrn = commentObj.has("actor") ? commentObj.get("actor").asText() : null;
-        String agentUrn = commentObj.has("agent") ? commentObj.get("agent").asText() : null;
-
-        return CommentData.builder()
-            .postUrn(postUrn)
-            .commentId(commentId)
-            .commentUrn(commentUrn)
-            .commentText(commentText)
-            .actorUrn(actorUrn)
-            .agentUrn(agentUrn)
-            .createdTime(createdTime)
-            .build();
-    }
-
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -281,7 +184,7 @@ public class CommentTrigger extends AbstractTrigger
         private final List<CommentData> allNewComments;
     }
 
-    @Builder
+    @Builder(toBuilder = true)
     @Getter
     public static class CommentData {
         @Schema(title = "Post URN")
@@ -310,6 +213,32 @@ public class CommentTrigger extends AbstractTrigger
 
         @Schema(title = "Created time")
         @PluginProperty(group = "advanced")
-        private final Instant createdTime;
+        @Getter(AccessLevel.NONE)
+        private final long createdTime;
+
+        @Schema(title = "Actor profile", description = "Only set when `enrichActors` is enabled and the actor could be resolved")
+        @PluginProperty(group = "advanced")
+        private final ActorProfile actor;
+
+        // kept in epoch milliseconds, an Instant per comment costs more than the comment ids
+        public Instant getCreatedTime() {
+            return Instant.ofEpochMilli(this.createdTime);
+        }
+
+        long createdTimeMillis() {
+            return this.createdTime;
+        }
+
+        public static class CommentDataBuilder {
+            public CommentDataBuilder createdTime(Instant createdTime) {
+                this.createdTime = createdTime.toEpochMilli();
+                return this;
+            }
+
+            public CommentDataBuilder createdTime(long createdTime) {
+                this.createdTime = createdTime;
+                return this;
+            }
+        }
     }
 }
@@ -0,0 +1,384 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Publish LinkedIn posts",
+    description = "Creates posts with the REST `posts` endpoint, optionally with an image or video from internal storage. " +
+        "Media are streamed from internal storage and uploaded in parallel, up to `uploadConcurrency` at a time, videos in several parts, while posts are still created in the given order."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Publish a batch of posts with images",
+            full = true,
+            code = """
+                id: linkedin_publish_posts
+                namespace: company.team
+
+                inputs:
+                  - id: banner
+                    type: FILE
+
+                tasks:
+                  - id: publish
+                    type: io.kestra.plugin.linkedin.CreatePosts
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    author: "urn:li:organization:2414183"
+                    posts:
+                      - commentary: "Our new release is out!"
+                        media: "{{ inputs.banner }}"
+                        altText: "Release banner"
+                      - commentary: "Join us at the meetup next week"
+                """
+        )
+    }
+)
+public class CreatePosts extends AbstractLinkedinTask implements RunnableTask<CreatePosts.Output> {
+
+    @Schema(title = "Posts", description = "Posts to publish, in publication order")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<PostInput>> posts;
+
+    @Schema(title = "Author URN", description = "Default author of the posts, e.g. `urn:li:organization:2414183` or `urn:li:person:abc`")
+    @PluginProperty(group = "main")
+    private Property<String> author;
+
+    @Schema(title = "Visibility", description = "Visibility of the created posts")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Visibility> visibility = Property.ofValue(Visibility.PUBLIC);
+
+    @Schema(
+        title = "Upload concurrency",
+        description = "Maximum number of media uploads in flight at the same time across all the posts, counting each part of a video; uploads run ahead of post creation"
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> uploadConcurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        List<PostInput> rPosts = runContext.render(this.posts).asList(PostInput.class);
+        String rAuthor = runContext.render(this.author).as(String.class).orElse(null);
+        Visibility rVisibility = runContext.render(this.visibility).as(Visibility.class).orElse(Visibility.PUBLIC);
+        int rUploadConcurrency = runContext.render(this.uploadConcurrency).as(Integer.class).orElse(4);
+        LinkedinConnection connection = createLinkedinConnection(runContext);
+        LinkedinRequestTemplate template = connection.template();
+
+        for (int i = 0; i < rPosts.size(); i++) {
+            PostInput post = rPosts.get(i);
+            if (post.getAuthor() == null && rAuthor == null) {
+                throw new IllegalArgumentException("Post " + i + " has no author and no default `author` is set");
+            }
+            if (post.getCommentary() == null && post.getMedia() == null) {
+                throw new IllegalArgumentException("Post " + i + " needs a commentary or a media");
+            }
+        }
+
+        runContext.logger().info("Publishing {} posts with up to {} concurrent uploads", rPosts.size(), rUploadConcurrency);
+
+        // one budget for the images and the video parts of all the posts, as both are fanned out below
+        Semaphore uploads = new Semaphore(rUploadConcurrency);
+
+        // filled as the posts are published, so a failure can tell which posts already exist
+        List<CreatedPost> created = new ArrayList<>();
+        try (HttpClient httpClient = connection.httpClient(runContext)) {
+            // uploads run ahead, flatMapSequential hands them over in input order so posts are created one by one in order
+            Flux.range(0, rPosts.size())
+                .flatMapSequential(
+                    index -> Mono.fromCallable(() -> this.uploadMedia(runContext, httpClient, template, rPosts.get(index), rAuthor, uploads, rUploadConcurrency))
+                        .subscribeOn(Schedulers.boundedElastic()),
+                    rUploadConcurrency
+                )
+                .concatMap(
+                    media -> Mono.fromCallable(() -> this.createPost(httpClient, template, media, rAuthor, rVisibility))
+                        .subscribeOn(Schedulers.boundedElastic()),
+                    1
+                )
+                .doOnNext(post -> {
+                    runContext.logger().info("Published post {} as {}", created.size(), post.getPostUrn());
+                    created.add(post);
+                })
+                .blockLast();
+        } catch (RuntimeException e) {
+            // rethrow the original error of the request rather than its reactive wrapper
+            Throwable cause = Exceptions.unwrap(e);
+            if (!created.isEmpty()) {
+                throw new PartiallyPublishedException(created, rPosts.size(), cause);
+            }
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw e;
+        }
+
+        runContext.logger().info("Published {} posts", created.size());
+
+        return Output.builder()
+            .posts(created)
+            .postsCount(created.size())
+            .build();
+    }
+
+    private UploadedMedia uploadMedia(RunContext runContext, HttpClient httpClient, LinkedinRequestTemplate template, PostInput post, String defaultAuthor, Semaphore uploads, int concurrency) throws Exception {
+        if (post.getMedia() == null) {
+            return new UploadedMedia(post, null);
+        }
+
+        String owner = post.getAuthor() != null ? post.getAuthor() : defaultAuthor;
+        URI media = URI.create(post.getMedia());
+        MediaType mediaType = post.getMediaType() != null ? post.getMediaType() : MediaType.of(media);
+
+        String mediaUrn = mediaType == MediaType.VIDEO ?
+            this.uploadVideo(runContext, httpClient, template, media, owner, uploads, concurrency) :
+            this.uploadImage(runContext, httpClient, template, media, owner, uploads);
+
+        runContext.logger().debug("Uploaded {} as {}", media, mediaUrn);
+        return new UploadedMedia(post, mediaUrn);
+    }
+
+    private String uploadImage(RunContext runContext, HttpClient httpClient, LinkedinRequestTemplate template, URI media, String owner, Semaphore uploads) throws Exception {
+        JsonNode value = LinkedinJson.TREE_READER.readTree(
+            template.send(httpClient, "POST", "/images?action=initializeUpload", Map.of("initializeUploadRequest", Map.of("owner", owner))).body()
+        ).path("value");
+
+        // the binary is streamed from internal storage to LinkedIn, never held in memory
+        uploads.acquire();
+        try (InputStream inputStream = runContext.storage().getFile(media)) {
+            template.upload(
+                httpClient,
+                value.path("uploadUrl").asText(),
+                HttpRequest.InputStreamRequestBody.builder()
+                    .contentType("application/octet-stream")
+                    .content(inputStream)
+                    .build()
+            );
+        } finally {
+            uploads.release();
+        }
+
+        return value.path("image").asText();
+    }
+
+    private String uploadVideo(RunContext runContext, HttpClient httpClient, LinkedinRequestTemplate template, URI media, String owner, Semaphore uploads, int concurrency) throws Exception {
+        // LinkedIn asks for the size up front and for parts at given offsets, so the video is spooled to the working directory once
+        Path file = runContext.workingDir().createTempFile(".video");
+        try (InputStream inputStream = runContext.storage().getFile(media)) {
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Map<String, Object> initializeRequest = new LinkedHashMap<>();
+            initializeRequest.put("owner", owner);
+            initializeRequest.put("fileSizeBytes", channel.size());
+            initializeRequest.put("uploadCaptions", false);
+            initializeRequest.put("uploadThumbnail", false);
+
+            JsonNode value = LinkedinJson.TREE_READER.readTree(
+                template.send(httpClient, "POST", "/videos?action=initializeUpload", Map.of("initializeUploadRequest", initializeRequest)).body()
+            ).path("value");
+            JsonNode instructions = value.path("uploadInstructions");
+
+            // parts are uploaded in parallel within the shared upload budget, their ETags are kept in part order as required
+            // by finalizeUpload
+            List<String> partIds = Flux.range(0, instructions.size())
+                .flatMapSequential(
+                    part -> Mono.fromCallable(() -> this.uploadPart(httpClient, template, channel, instructions.get(part), uploads))
+                        .subscribeOn(Schedulers.boundedElastic()),
+                    concurrency
+                )
+                .collectList()
+                .block();
+
+            Map<String, Object> finalizeRequest = new LinkedHashMap<>();
+            finalizeRequest.put("video", value.path("video").asText());
+            finalizeRequest.put("uploadToken", value.path("uploadToken").asText(""));
+            finalizeRequest.put("uploadedPartIds", partIds);
+            template.send(httpClient, "POST", "/videos?action=finalizeUpload", Map.of("finalizeUploadRequest", finalizeRequest));
+
+            return value.path("video").asText();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private String uploadPart(HttpClient httpClient, LinkedinRequestTemplate template, FileChannel channel, JsonNode instruction, Semaphore uploads) throws Exception {
+        long firstByte = instruction.path("firstByte").asLong();
+        long lastByte = instruction.path("lastByte").asLong();
+
+        // the part is streamed from the spooled file, never held in memory
+        HttpResponse<String> response;
+        uploads.acquire();
+        try (InputStream part = new PartInputStream(channel, firstByte, lastByte + 1)) {
+            response = template.upload(
+                httpClient,
+                instruction.path("uploadUrl").asText(),
+                HttpRequest.InputStreamRequestBody.builder()
+                    .contentType("application/octet-stream")
+                    .content(part)
+                    .build()
+            );
+        } finally {
+            uploads.release();
+        }
+
+        return response.getHeaders().firstValue("ETag")
+            .orElseThrow(() -> new IllegalStateException("No ETag returned for the video part starting at byte " + firstByte));
+    }
+
+    private CreatedPost createPost(HttpClient httpClient, LinkedinRequestTemplate template, UploadedMedia media, String defaultAuthor, Visibility visibility) throws Exception {
+        // publishing is not idempotent, a post answered with 401 or 429 is not sent again with another token
+        LinkedinRequestTemplate.Response response = template.sendOnce(httpClient, "POST", "/posts", postBody(media.post(), media.mediaUrn(), defaultAuthor, visibility));
+
+        String postUrn = response.headers().firstValue("x-restli-id")
+            .orElseThrow(() -> new IllegalStateException("No post URN returned by LinkedIn"));
+
+        return CreatedPost.builder()
+            .postUrn(postUrn)
+            .mediaUrn(media.mediaUrn())
+            .build();
+    }
+
+    static Map<String, Object> postBody(PostInput post, String mediaUrn, String defaultAuthor, Visibility visibility) {
+        Map<String, Object> distribution = new LinkedHashMap<>();
+        distribution.put("feedDistribution", "MAIN_FEED");
+        distribution.put("targetEntities", List.of());
+        distribution.put("thirdPartyDistributionChannels", List.of());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("author", post.getAuthor() != null ? post.getAuthor() : defaultAuthor);
+        body.put("commentary", post.getCommentary() != null ? post.getCommentary() : "");
+        body.put("visibility", visibility.name());
+        body.put("distribution", distribution);
+        body.put("lifecycleState", "PUBLISHED");
+        body.put("isReshareDisabledByAuthor", false);
+
+        if (mediaUrn != null) {
+            Map<String, Object> content = new LinkedHashMap<>();
+            content.put("id", mediaUrn);
+            if (post.getMediaTitle() != null) {
+                content.put("title", post.getMediaTitle());
+            }
+            if (post.getAltText() != null) {
+                content.put("altText", post.getAltText());
+            }
+            body.put("content", Map.of("media", content));
+        }
+
+        return body;
+    }
+
+    private record UploadedMedia(PostInput post, String mediaUrn) {
+    }
+
+    /**
+     * Thrown when a post fails after the previous ones were published; retrying the whole batch would publish them again.
+     */
+    static class PartiallyPublishedException extends RuntimeException {
+        @Getter
+        private final List<CreatedPost> createdPosts;
+
+        PartiallyPublishedException(List<CreatedPost> createdPosts, int postsCount, Throwable cause) {
+            super(
+                "Failed to publish post " + createdPosts.size() + " of " + postsCount + ", the previous ones are already published as " +
+                    createdPosts.stream().map(CreatedPost::getPostUrn).toList() + "; remove them from `posts` before retrying",
+                cause
+            );
+            this.createdPosts = List.copyOf(createdPosts);
+        }
+    }
+
+    /**
+     * Reads the byte range {@code [position, end)} of a video from a read-only memory mapping of the spooled file, so the
+     * bytes go from the page cache to the HTTP client buffers without a read call per chunk; mappings don't move the
+     * channel position, so the parts uploaded in parallel share the channel.
+     */
+    static final class PartInputStream extends InputStream {
+        private final ByteBuffer part;
+        private final long end;
+        private long position;
+
+        PartInputStream(FileChannel channel, long position, long end) throws IOException {
+            long mappedEnd = Math.min(end, channel.size());
+            this.part = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.max(0, mappedEnd - position));
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return this.read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (this.position >= this.end) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (!this.part.hasRemaining()) {
+                throw new EOFException("Video is shorter than the upload instructions, expected byte " + (this.end - 1));
+            }
+
+            int read = Math.min(len, this.part.remaining());
+            this.part.get(b, off, read);
+            this.position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return this.part.remaining();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time budget of a fetch run split into units of work, e.g. one URN.
+ * <p>
+ * A new unit is only started when the slowest unit seen so far would still complete before the deadline, so the run
+ * stops early enough to return its partial results instead of being killed by the task timeout. Units may run
+ * concurrently, each one being timed from its own start.
+ */
+final class FetchBudget {
+    private final long deadline;
+    private final boolean unlimited;
+    private final AtomicLong longestUnit = new AtomicLong();
+
+    private FetchBudget(Duration maxDuration) {
+        this.unlimited = maxDuration == null;
+        this.deadline = this.unlimited ? 0 : System.nanoTime() + maxDuration.toNanos();
+    }
+
+    /**
+     * @param maxDuration the budget of the run, {@code null} for an unlimited one
+     */
+    static FetchBudget of(Duration maxDuration) {
+        if (maxDuration != null && (maxDuration.isNegative() || maxDuration.isZero())) {
+            throw new IllegalArgumentException("The maximum duration must be strictly positive, got " + maxDuration);
+        }
+
+        return new FetchBudget(maxDuration);
+    }
+
+    /**
+     * Starts a new unit of work if the remaining budget allows it.
+     *
+     * @return the start time of the unit, to be given to {@link #finish(long)}, or empty if the run should stop before it
+     */
+    OptionalLong tryStart() {
+        long now = System.nanoTime();
+        if (!this.unlimited && this.deadline - now - this.longestUnit.get() <= 0) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(now);
+    }
+
+    void finish(long startedAt) {
+        long duration = System.nanoTime() - startedAt;
+        this.longestUnit.accumulateAndGet(duration, Math::max);
+    }
+}
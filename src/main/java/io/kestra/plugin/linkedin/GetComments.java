@@ -0,0 +1,276 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Fetch LinkedIn comment threads",
+    description = "Retrieves the comments of one or more LinkedIn posts together with their nested replies, up to `maxDepth` levels, using the REST `socialActions` comments endpoint. " +
+        "Every level is paginated, threads are walked in parallel under a global `concurrency` and `maxRequestsPerSecond` budget, and comments are streamed to an ION file in internal storage."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Export the full discussion of a post",
+            full = true,
+            code = """
+                id: linkedin_comment_threads
+                namespace: company.team
+
+                tasks:
+                  - id: get_comments
+                    type: io.kestra.plugin.linkedin.GetComments
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    postUrns:
+                      - "urn:li:activity:7374025671234244609"
+                    maxDepth: 3
+                    maxRequestsPerSecond: 10
+                """
+        )
+    }
+)
+public class GetComments extends AbstractLinkedinTask implements RunnableTask<GetComments.Output> {
+
+    @Schema(title = "Post URNs", description = "List of LinkedIn post URNs whose comments are fetched")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<String>> postUrns;
+
+    @Schema(title = "Maximum depth", description = "Number of comment levels to fetch; `1` only fetches top-level comments, `2` also fetches their replies, and so on")
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "main")
+    private Property<Integer> maxDepth = Property.ofValue(2);
+
+    @Schema(title = "Page size", description = "Number of comments requested per page")
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "advanced")
+    private Property<Integer> pageSize = Property.ofValue(100);
+
+    @Schema(title = "Concurrency", description = "Maximum number of requests in flight at the same time, across all posts and levels")
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(8);
+
+    @Schema(title = "Maximum requests per second", description = "Global request rate budget of the run; unlimited when not set")
+    @PluginProperty(group = "execution")
+    private Property<Double> maxRequestsPerSecond;
+
+    @Schema(
+        title = "Hedge slow requests",
+        description = "When a comments page is slower than the `hedgePercentile` of the latencies observed so far in the run, send a duplicate and keep the first answer. " +
+            "Duplicates are capped to 10% of the requests and only sent when `maxRequestsPerSecond` has a free permit."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> hedgeRequests = Property.ofValue(false);
+
+    @Schema(title = "Hedging percentile", description = "Latency percentile, between 0 and 100, after which a slow request is hedged")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Double> hedgePercentile = Property.ofValue(95.0);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        List<String> rPostUrns = runContext.render(this.postUrns).asList(String.class);
+        int rMaxDepth = runContext.render(this.maxDepth).as(Integer.class).orElse(2);
+        int rPageSize = runContext.render(this.pageSize).as(Integer.class).orElse(100);
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(8);
+        Double rMaxRequestsPerSecond = runContext.render(this.maxRequestsPerSecond).as(Double.class).orElse(null);
+
+        LinkedinRateLimiter rateLimiter = rMaxRequestsPerSecond != null ? new LinkedinRateLimiter(rMaxRequestsPerSecond) : null;
+        RequestHedger hedger = runContext.render(this.hedgeRequests).as(Boolean.class).orElse(false)
+            ? new RequestHedger(runContext.render(this.hedgePercentile).as(Double.class).orElse(95.0), rateLimiter)
+            : null;
+
+        LinkedinConnection connection = createLinkedinConnection(runContext);
+        Traversal traversal = new Traversal(
+            // a hedged duplicate must not be coalesced with the slow request it duplicates
+            hedger != null ? connection.template().withCoalescing(null) : connection.template(),
+            rMaxDepth,
+            rPageSize,
+            rConcurrency,
+            new Semaphore(rConcurrency),
+            rateLimiter,
+            hedger,
+            new AtomicInteger()
+        );
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long count;
+
+        try (
+            HttpClient httpClient = connection.httpClient(runContext);
+            Writer output = new BufferedWriter(new FileWriter(tempFile, StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)
+        ) {
+            Flux<Map<String, Object>> comments = Flux.fromIterable(rPostUrns)
+                .flatMap(postUrn -> traversal.level(httpClient, postUrn, postUrn, null, 1), rConcurrency);
+
+            count = FileSerde.writeAll(output, comments).block();
+        }
+
+        runContext.logger().info(
+            "Fetched {} comments with {} requests ({} hedged)",
+            count, traversal.requests().get(), hedger != null ? hedger.hedgesCount() : 0
+        );
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .commentsCount(count)
+            .requestsCount(traversal.requests().get())
+            .build();
+    }
+
+    private record Traversal(
+        LinkedinRequestTemplate template,
+        int maxDepth,
+        int pageSize,
+        int concurrency,
+        Semaphore inFlight,
+        LinkedinRateLimiter rateLimiter,
+        RequestHedger hedger,
+        AtomicInteger requests
+    ) {
+        /**
+         * Walks all the pages of the comments of {@code parentUrn}, then recursively the replies of each comment.
+         */
+        Flux<Map<String, Object>> level(HttpClient httpClient, String postUrn, String parentUrn, String parentCommentUrn, int depth) {
+            return this.page(httpClient, parentUrn, 0)
+                .expand(page -> page.nextStart() != null ? this.page(httpClient, parentUrn, page.nextStart()) : Mono.empty())
+                .flatMapIterable(Page::elements)
+                .flatMap(
+                    element -> {
+                        Map<String, Object> comment = toRow(postUrn, parentCommentUrn, depth, element);
+                        String commentUrn = (String) comment.get("commentUrn");
+
+                        if (depth >= this.maxDepth || commentUrn == null || !hasReplies(element)) {
+                            return Flux.just(comment);
+                        }
+
+                        return Flux.just(comment).concatWith(this.level(httpClient, postUrn, commentUrn, commentUrn, depth + 1));
+                    },
+                    this.concurrency
+                );
+        }
+
+        private Mono<Page> page(HttpClient httpClient, String parentUrn, int start) {
+            return Mono.fromCallable(() -> {
+                    String path = "/socialActions/" + URLEncoder.encode(parentUrn, StandardCharsets.UTF_8)
+                        + "/comments?start=" + start + "&count=" + this.pageSize;
+
+                    if (this.rateLimiter != null) {
+                        this.rateLimiter.acquire();
+                    }
+
+                    this.inFlight.acquire();
+                    JsonNode response;
+                    try {
+                        this.requests.incrementAndGet();
+                        response = this.hedger != null
+                            ? this.hedger.execute(() -> this.template.fetchJson(httpClient, path))
+                            : this.template.fetchJson(httpClient, path);
+                    } finally {
+                        this.inFlight.release();
+                    }
+
+                    return Page.of(response, start, this.pageSize);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+        }
+    }
+
+    private record Page(List<JsonNode> elements, Integer nextStart) {
+        static Page of(JsonNode response, int start, int pageSize) {
+            List<JsonNode> elements = response.path("elements").isArray()
+                ? StreamSupport.stream(response.get("elements").spliterator(), false).toList()
+                : List.of();
+
+            int next = start + elements.size();
+            JsonNode total = response.path("paging").path("total");
+            boolean hasNext = total.isNumber() ? next < total.asInt() : elements.size() >= pageSize;
+
+            return new Page(elements, hasNext && !elements.isEmpty() ? next : null);
+        }
+    }
+
+    private static boolean hasReplies(JsonNode element) {
+        JsonNode summary = element.path("commentsSummary");
+        if (summary.has("totalFirstLevelComments")) {
+            return summary.get("totalFirstLevelComments").asInt() > 0;
+        }
+        if (summary.has("aggregatedTotalComments")) {
+            return summary.get("aggregatedTotalComments").asInt() > 0;
+        }
+
+        // without a summary, the only way to know is to ask
+        return true;
+    }
+
+    static Map<String, Object> toRow(String postUrn, String parentCommentUrn, int depth, JsonNode element) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("postUrn", postUrn);
+        row.put("parentCommentUrn", parentCommentUrn);
+        row.put("depth", depth);
+        row.put("commentId", element.has("id") ? element.get("id").asText() : null);
+        row.put("commentUrn", element.has("commentUrn") ? element.get("commentUrn").asText() : null);
+        row.put("actorUrn", element.has("actor") ? element.get("actor").asText() : null);
+        row.put("agentUrn", element.has("agent") ? element.get("agent").asText() : null);
+        row.put("commentText", element.path("message").has("text") ? element.get("message").get("text").asText() : null);
+        row.put("createdTime", element.path("created").has("time") ? Instant.ofEpochMilli(element.get("created").get("time").asLong()) : null);
+        row.put("lastModifiedTime", element.path("lastModified").has("time") ? Instant.ofEpochMilli(element.get("lastModified").get("time").asLong()) : null);
+        row.put("replyCount", element.path("commentsSummary").has("totalFirstLevelComments") ? element.get("commentsSummary").get("totalFirstLevelComments").asInt() : null);
+        return row;
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Comments", description = "ION file with one record per comment or reply, holding its `depth` and `parentCommentUrn`")
+        private final URI uri;
+
+        @Schema(title = "Number of comments fetched")
+        private final Long commentsCount;
+
+        @Schema(title = "Number of API requests sent")
+        private final Integer requestsCount;
+    }
+}
@@ -0,0 +1,392 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Fetch LinkedIn organization follower or page statistics",
+    description = "Retrieves the daily follower gains (`organizationalEntityFollowerStatistics`) or page views and clicks (`organizationPageStatistics`) of an organization page. " +
+        "The time range is split into `bucketSize` buckets fetched in parallel; buckets old enough to be final are cached in the namespace KV store, so later runs only fetch the recent ones. " +
+        "Rows are written to an ION file in internal storage."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Refresh the daily follower gains of an organization since the beginning of the year",
+            full = true,
+            code = """
+                id: linkedin_follower_statistics
+                namespace: company.team
+
+                tasks:
+                  - id: follower_statistics
+                    type: io.kestra.plugin.linkedin.GetOrganizationPageStatistics
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    organizationUrn: "urn:li:organization:2414183"
+                    statistics: FOLLOWER
+                    startTime: "2025-01-01T00:00:00Z"
+
+                triggers:
+                  - id: daily
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "0 6 * * *"
+                """
+        ),
+        @Example(
+            title = "Get the lifetime follower demographics of an organization",
+            full = true,
+            code = """
+                id: linkedin_follower_demographics
+                namespace: company.team
+
+                tasks:
+                  - id: follower_statistics
+                    type: io.kestra.plugin.linkedin.GetOrganizationPageStatistics
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    organizationUrn: "urn:li:organization:2414183"
+                    statistics: FOLLOWER
+                """
+        )
+    }
+)
+public class GetOrganizationPageStatistics extends AbstractLinkedinTask implements RunnableTask<GetOrganizationPageStatistics.Output> {
+    private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+    // bounds the KV store of organizations no longer fetched; a bucket still requested is fetched again once expired
+    static final Duration FINAL_BUCKET_TTL = Duration.ofDays(90);
+
+    @Schema(title = "Organization URN", description = "Organization page to fetch statistics for, e.g. `urn:li:organization:2414183`")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> organizationUrn;
+
+    @Schema(title = "Statistics", description = "`FOLLOWER` for follower gains, `PAGE` for page views and clicks")
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Statistics> statistics = Property.ofValue(Statistics.FOLLOWER);
+
+    @Schema(
+        title = "Start of the time range",
+        description = "Inclusive start of the daily statistics; without it, lifetime statistics are returned (follower counts by segment for `FOLLOWER`) and nothing is cached"
+    )
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> startTime;
+
+    @Schema(title = "End of the time range", description = "Exclusive end of the statistics; defaults to now when `startTime` is set")
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> endTime;
+
+    @Schema(
+        title = "Bucket size",
+        description = "Time range split, in whole days; buckets are aligned on the epoch so their boundaries, and therefore the cache entries, are the same from one run to the next"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> bucketSize = Property.ofValue(Duration.ofDays(30));
+
+    @Schema(title = "Concurrency", description = "Maximum number of requests in flight at the same time")
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Schema(
+        title = "Cache final buckets",
+        description = "Keep the buckets ending more than `settlingDelay` ago in the namespace KV store for 90 days, and read them from there on the next runs; " +
+            "the entries are keyed by `apiVersion`, and buckets answered with no rows or with an error are never cached"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> cacheFinalBuckets = Property.ofValue(true);
+
+    @Schema(
+        title = "Settling delay",
+        description = "How long LinkedIn may still update the statistics of a past day; buckets are only cached once they ended longer ago"
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> settlingDelay = Property.ofValue(Duration.ofDays(2));
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String rOrganizationUrn = runContext.render(this.organizationUrn).as(String.class).orElseThrow();
+        Statistics rStatistics = runContext.render(this.statistics).as(Statistics.class).orElse(Statistics.FOLLOWER);
+        Optional<ZonedDateTime> rStartTime = runContext.render(this.startTime).as(ZonedDateTime.class);
+        Instant now = Instant.now();
+        Instant rEndTime = runContext.render(this.endTime).as(ZonedDateTime.class).map(ZonedDateTime::toInstant).orElse(now);
+        Duration rBucketSize = runContext.render(this.bucketSize).as(Duration.class).orElse(Duration.ofDays(30));
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(4);
+        boolean rCacheFinalBuckets = runContext.render(this.cacheFinalBuckets).as(Boolean.class).orElse(true);
+        Duration rSettlingDelay = runContext.render(this.settlingDelay).as(Duration.class).orElse(Duration.ofDays(2));
+        LinkedinConnection connection = createLinkedinConnection(runContext);
+        LinkedinRequestTemplate template = connection.template();
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        AtomicInteger requests = new AtomicInteger();
+        AtomicInteger cachedBuckets = new AtomicInteger();
+        long count;
+
+        try (
+            HttpClient httpClient = connection.httpClient(runContext);
+            Writer output = new BufferedWriter(new FileWriter(tempFile, StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)
+        ) {
+            Flux<Map<String, Object>> rows;
+
+            if (rStartTime.isEmpty()) {
+                rows = Mono.fromCallable(() -> {
+                        requests.incrementAndGet();
+                        return this.fetchLifetime(httpClient, template, rStatistics, rOrganizationUrn);
+                    })
+                    .flatMapIterable(list -> list);
+            } else {
+                Instant start = rStartTime.get().toInstant();
+                List<TimeBucket> buckets = alignedBuckets(start, rEndTime, rBucketSize);
+                Instant settled = now.minus(rSettlingDelay);
+                KVStore kvStore = rCacheFinalBuckets ? runContext.namespaceKv(runContext.flowInfo().namespace()) : null;
+
+                runContext.logger().info("Fetching {} statistics of {} in {} buckets", rStatistics, rOrganizationUrn, buckets.size());
+
+                // sequential flatMap keeps the rows in chronological order while the buckets are fetched in parallel
+                rows = Flux.fromIterable(buckets)
+                    .flatMapSequential(
+                        bucket -> Mono.fromCallable(() -> this.loadBucket(httpClient, template, kvStore, rStatistics, rOrganizationUrn, bucket, now, settled, requests, cachedBuckets))
+                            .subscribeOn(Schedulers.boundedElastic()),
+                        rConcurrency
+                    )
+                    .flatMapIterable(list -> list)
+                    .filter(row -> inRange(row, start, rEndTime))
+                    .map(GetOrganizationPageStatistics::outputRow);
+            }
+
+            count = FileSerde.writeAll(output, rows).block();
+        }
+
+        runContext.logger().info("Fetched {} rows with {} requests, {} buckets read from cache", count, requests.get(), cachedBuckets.get());
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .rowsCount(count)
+            .requestsCount(requests.get())
+            .cachedBucketsCount(cachedBuckets.get())
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> loadBucket(
+        HttpClient httpClient,
+        LinkedinRequestTemplate template,
+        KVStore kvStore,
+        Statistics statistics,
+        String organizationUrn,
+        TimeBucket bucket,
+        Instant now,
+        Instant settled,
+        AtomicInteger requests,
+        AtomicInteger cachedBuckets
+    ) throws Exception {
+        boolean isFinal = !bucket.end().isAfter(settled);
+        String key = isFinal && kvStore != null ? cacheKey(template.getApiVersion(), statistics, organizationUrn, bucket) : null;
+
+        if (key != null) {
+            Optional<KVValue> cached = kvStore.getValue(key);
+            if (cached.isPresent() && cached.get().value() instanceof List<?> cachedRows) {
+                cachedBuckets.incrementAndGet();
+                return (List<Map<String, Object>>) cachedRows;
+            }
+        }
+
+        // an open bucket is fetched up to now only, LinkedIn rejects ranges ending in the future
+        TimeBucket fetched = bucket.end().isAfter(now) ?
+            new TimeBucket(bucket.start(), now) :
+            bucket;
+        requests.incrementAndGet();
+        List<Map<String, Object>> rows = this.fetchBucket(httpClient, template, statistics, organizationUrn, fetched);
+
+        // an empty answer may be a transient gap of LinkedIn, it is fetched again on the next run rather than cached forever
+        if (key != null && !rows.isEmpty()) {
+            kvStore.put(key, new KVValueAndMetadata(new KVMetadata("LinkedIn " + statistics + " statistics of " + organizationUrn, FINAL_BUCKET_TTL), rows));
+        }
+
+        return rows;
+    }
+
+    private List<Map<String, Object>> fetchBucket(HttpClient httpClient, LinkedinRequestTemplate template, Statistics statistics, String organizationUrn, TimeBucket bucket) throws Exception {
+        JsonNode jsonResponse = template.fetchJson(httpClient, queryPath(statistics, organizationUrn, bucket));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (JsonNode element : jsonResponse.path("elements")) {
+            rows.add(parseRow(statistics, organizationUrn, element));
+        }
+        return rows;
+    }
+
+    private List<Map<String, Object>> fetchLifetime(HttpClient httpClient, LinkedinRequestTemplate template, Statistics statistics, String organizationUrn) throws Exception {
+        JsonNode jsonResponse = template.fetchJson(httpClient, queryPath(statistics, organizationUrn, null));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (JsonNode element : jsonResponse.path("elements")) {
+            rows.add(LinkedinJson.MAP_READER.readValue(element));
+        }
+        return rows;
+    }
+
+    /**
+     * @return a row with the bucket times in epoch milliseconds, so it can be cached as is, and the numeric statistics
+     * flattened with dotted names, e.g. {@code views.allPageViews.pageViews}
+     */
+    static Map<String, Object> parseRow(Statistics statistics, String organizationUrn, JsonNode element) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("organizationUrn", element.has(statistics.entityParameter) ? element.get(statistics.entityParameter).asText() : organizationUrn);
+
+        JsonNode timeRange = element.path("timeRange");
+        if (timeRange.has("start")) {
+            row.put("start", timeRange.get("start").asLong());
+        }
+        if (timeRange.has("end")) {
+            row.put("end", timeRange.get("end").asLong());
+        }
+
+        flatten("", element.path(statistics.statisticsField), row);
+        return row;
+    }
+
+    private static void flatten(String prefix, JsonNode node, Map<String, Object> row) {
+        node.fieldNames().forEachRemaining(name -> {
+            JsonNode value = node.get(name);
+            if (value.isObject()) {
+                flatten(prefix + name + ".", value, row);
+            } else if (value.isNumber()) {
+                row.put(prefix + name, value.isIntegralNumber() ? value.asLong() : value.asDouble());
+            }
+        });
+    }
+
+    private static boolean inRange(Map<String, Object> row, Instant start, Instant end) {
+        if (!(row.get("start") instanceof Number rowStart)) {
+            return true;
+        }
+
+        return rowStart.longValue() >= start.toEpochMilli() && rowStart.longValue() < end.toEpochMilli();
+    }
+
+    private static Map<String, Object> outputRow(Map<String, Object> row) {
+        Map<String, Object> outputRow = new LinkedHashMap<>(row);
+        outputRow.computeIfPresent("start", (key, value) -> Instant.ofEpochMilli(((Number) value).longValue()));
+        outputRow.computeIfPresent("end", (key, value) -> Instant.ofEpochMilli(((Number) value).longValue()));
+        return outputRow;
+    }
+
+    static String queryPath(Statistics statistics, String organizationUrn, TimeBucket bucket) {
+        StringBuilder url = new StringBuilder()
+            .append(statistics.path)
+            .append("?q=").append(statistics.entityParameter)
+            .append("&").append(statistics.entityParameter).append("=")
+            .append(URLEncoder.encode(organizationUrn, StandardCharsets.UTF_8));
+
+        if (bucket != null) {
+            url.append("&timeIntervals=(timeRange:(start:").append(bucket.start().toEpochMilli())
+                .append(",end:").append(bucket.end().toEpochMilli())
+                .append("),timeGranularityType:DAY)");
+        }
+
+        return url.toString();
+    }
+
+    /**
+     * Splits {@code [start, end)} in buckets whose boundaries are multiples of {@code bucketSize} since the epoch, the
+     * first and last ones covering the whole aligned slice even if it starts before {@code start} or ends after {@code end}.
+     */
+    static List<TimeBucket> alignedBuckets(Instant start, Instant end, Duration bucketSize) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("endTime must be after startTime, got " + start + " and " + end);
+        }
+        if (bucketSize.toMillis() < DAY_MILLIS || bucketSize.toMillis() % DAY_MILLIS != 0) {
+            throw new IllegalArgumentException("bucketSize must be a whole number of days, got " + bucketSize);
+        }
+
+        long size = bucketSize.toMillis();
+        List<TimeBucket> buckets = new ArrayList<>();
+        for (long bucketStart = Math.floorDiv(start.toEpochMilli(), size) * size; bucketStart < end.toEpochMilli(); bucketStart += size) {
+            buckets.add(new TimeBucket(Instant.ofEpochMilli(bucketStart), Instant.ofEpochMilli(bucketStart + size)));
+        }
+        return buckets;
+    }
+
+    /**
+     * @return a key holding the API version, as the shape of the cached rows follows the version they were fetched with
+     */
+    static String cacheKey(String apiVersion, Statistics statistics, String organizationUrn, TimeBucket bucket) {
+        return ("linkedin_" + statistics.name().toLowerCase(Locale.ROOT) + "_statistics." + apiVersion + "." + organizationUrn + "." + bucket.start().toEpochMilli() + "." + bucket.end().toEpochMilli())
+            .replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    public enum Statistics {
+        FOLLOWER("/organizationalEntityFollowerStatistics", "organizationalEntity", "followerGains"),
+        PAGE("/organizationPageStatistics", "organization", "totalPageStatistics");
+
+        private final String path;
+        private final String entityParameter;
+        private final String statisticsField;
+
+        Statistics(String path, String entityParameter, String statisticsField) {
+            this.path = path;
+            this.entityParameter = entityParameter;
+            this.statisticsField = statisticsField;
+        }
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Statistics rows", description = "ION file with one row per day, or the lifetime statistics without `startTime`")
+        private final URI uri;
+
+        @Schema(title = "Number of rows written")
+        private final Long rowsCount;
+
+        @Schema(title = "Number of API requests sent")
+        private final Integer requestsCount;
+
+        @Schema(title = "Number of buckets read from the KV store cache")
+        private final Integer cachedBucketsCount;
+    }
+}
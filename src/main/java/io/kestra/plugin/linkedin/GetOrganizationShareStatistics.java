@@ -0,0 +1,291 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@SuperBuilder
+@ToString
+@EqualsAndHashCode
+@Getter
+@NoArgsConstructor
+@Schema(
+    title = "Fetch LinkedIn organization share statistics",
+    description = "Retrieves impressions, clicks and engagement of an organization page from the REST `organizationalEntityShareStatistics` endpoint. " +
+        "Posts are queried in batches of `batchSize` shares/ugcPosts per request, large time ranges are split into `bucketSize` buckets queried in parallel, and rows are streamed to an ION file in internal storage."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Get daily statistics of an organization over a quarter",
+            full = true,
+            code = """
+                id: linkedin_share_statistics
+                namespace: company.team
+
+                tasks:
+                  - id: share_statistics
+                    type: io.kestra.plugin.linkedin.GetOrganizationShareStatistics
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    organizationUrn: "urn:li:organization:2414183"
+                    startTime: "2025-01-01T00:00:00Z"
+                    endTime: "2025-04-01T00:00:00Z"
+                """
+        ),
+        @Example(
+            title = "Get lifetime statistics of many posts",
+            full = true,
+            code = """
+                id: linkedin_post_share_statistics
+                namespace: company.team
+
+                tasks:
+                  - id: share_statistics
+                    type: io.kestra.plugin.linkedin.GetOrganizationShareStatistics
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    organizationUrn: "urn:li:organization:2414183"
+                    postUrns:
+                      - "urn:li:share:7374025671234244609"
+                      - "urn:li:ugcPost:7374025671234244610"
+                """
+        )
+    }
+)
+public class GetOrganizationShareStatistics extends AbstractLinkedinTask implements RunnableTask<GetOrganizationShareStatistics.Output> {
+
+    static final String SHARE_URN_PREFIX = "urn:li:share:";
+    static final String UGC_POST_URN_PREFIX = "urn:li:ugcPost:";
+
+    @Schema(title = "Organization URN", description = "Organization page to fetch statistics for, e.g. `urn:li:organization:2414183`")
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> organizationUrn;
+
+    @Schema(
+        title = "Post URNs",
+        description = "Optional `urn:li:share:` and `urn:li:ugcPost:` URNs to restrict the statistics to, any other URN is rejected; without it, organization-wide statistics are returned"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> postUrns;
+
+    @Schema(title = "Start of the time range", description = "Inclusive start of the statistics; without it, lifetime statistics are returned")
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> startTime;
+
+    @Schema(title = "End of the time range", description = "Exclusive end of the statistics; defaults to now when `startTime` is set")
+    @PluginProperty(group = "main")
+    private Property<ZonedDateTime> endTime;
+
+    @Schema(title = "Time granularity", description = "Granularity of the returned rows when a time range is set")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<TimeGranularity> timeGranularity = Property.ofValue(TimeGranularity.DAY);
+
+    @Schema(
+        title = "Bucket size",
+        description = "Large time ranges are split into buckets of this size, each fetched by its own request. " +
+            "With `MONTH` granularity, buckets are aligned on the first day of the months, in the time zone of `startTime`, and span the bucket size rounded to whole months."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> bucketSize = Property.ofValue(Duration.ofDays(30));
+
+    @Schema(title = "Posts per request", description = "Maximum number of share/ugcPost URNs sent in one request")
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "advanced")
+    private Property<Integer> batchSize = Property.ofValue(20);
+
+    @Schema(title = "Concurrency", description = "Maximum number of requests in flight at the same time")
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Override
+    public Output run(RunContext runContext) throws Exception {
+        String rOrganizationUrn = runContext.render(this.organizationUrn).as(String.class).orElseThrow();
+        List<String> rPostUrns = this.postUrns != null ? runContext.render(this.postUrns).asList(String.class) : List.of();
+        Optional<ZonedDateTime> rStartTime = runContext.render(this.startTime).as(ZonedDateTime.class);
+        ZonedDateTime rEndTime = runContext.render(this.endTime).as(ZonedDateTime.class).orElse(ZonedDateTime.now());
+        TimeGranularity rTimeGranularity = runContext.render(this.timeGranularity).as(TimeGranularity.class).orElse(TimeGranularity.DAY);
+        Duration rBucketSize = runContext.render(this.bucketSize).as(Duration.class).orElse(Duration.ofDays(30));
+        int rBatchSize = runContext.render(this.batchSize).as(Integer.class).orElse(20);
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(4);
+        LinkedinConnection connection = createLinkedinConnection(runContext);
+        LinkedinRequestTemplate template = connection.template();
+
+        List<TimeBucket> buckets = rStartTime
+            .map(start -> rTimeGranularity == TimeGranularity.MONTH
+                ? TimeBucket.splitMonths(start, rEndTime.toInstant(), rBucketSize)
+                : TimeBucket.split(start.toInstant(), rEndTime.toInstant(), rBucketSize))
+            .orElse(Collections.singletonList(null));
+        List<List<String>> postBatches = batches(rPostUrns, rBatchSize);
+
+        List<String> queries = new ArrayList<>(buckets.size() * postBatches.size());
+        for (TimeBucket bucket : buckets) {
+            for (List<String> postBatch : postBatches) {
+                queries.add(queryPath(rOrganizationUrn, postBatch, bucket, rTimeGranularity));
+            }
+        }
+
+        runContext.logger().info(
+            "Fetching share statistics of {} with {} requests ({} time buckets, {} post batches)",
+            rOrganizationUrn, queries.size(), buckets.size(), postBatches.size()
+        );
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long count;
+
+        try (
+            HttpClient httpClient = connection.httpClient(runContext);
+            Writer output = new BufferedWriter(new FileWriter(tempFile, StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE)
+        ) {
+            Flux<Map<String, Object>> rows = Flux.fromIterable(queries)
+                .flatMap(
+                    path -> Mono.fromCallable(() -> fetchRows(httpClient, template, path, rOrganizationUrn))
+                        .subscribeOn(Schedulers.boundedElastic()),
+                    rConcurrency
+                )
+                .flatMapIterable(list -> list);
+
+            count = FileSerde.writeAll(output, rows).block();
+        }
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .rowsCount(count)
+            .requestsCount(queries.size())
+            .build();
+    }
+
+    private List<Map<String, Object>> fetchRows(HttpClient httpClient, LinkedinRequestTemplate template, String path, String organizationUrn) throws Exception {
+        JsonNode jsonResponse = template.fetchJson(httpClient, path);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (JsonNode element : jsonResponse.path("elements")) {
+            rows.add(parseRow(organizationUrn, element));
+        }
+        return rows;
+    }
+
+    static Map<String, Object> parseRow(String organizationUrn, JsonNode element) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("organizationUrn", element.has("organizationalEntity") ? element.get("organizationalEntity").asText() : organizationUrn);
+
+        if (element.has("share")) {
+            row.put("postUrn", element.get("share").asText());
+        } else if (element.has("ugcPost")) {
+            row.put("postUrn", element.get("ugcPost").asText());
+        }
+
+        JsonNode timeRange = element.path("timeRange");
+        if (timeRange.has("start")) {
+            row.put("start", Instant.ofEpochMilli(timeRange.get("start").asLong()));
+        }
+        if (timeRange.has("end")) {
+            row.put("end", Instant.ofEpochMilli(timeRange.get("end").asLong()));
+        }
+
+        JsonNode statistics = element.path("totalShareStatistics");
+        statistics.fieldNames().forEachRemaining(name -> {
+            JsonNode value = statistics.get(name);
+            row.put(name, value.isIntegralNumber() ? value.asLong() : value.isNumber() ? value.asDouble() : value.asText());
+        });
+
+        return row;
+    }
+
+    static String queryPath(String organizationUrn, List<String> postUrns, TimeBucket bucket, TimeGranularity timeGranularity) {
+        StringBuilder url = new StringBuilder()
+            .append("/organizationalEntityShareStatistics?q=organizationalEntity&organizationalEntity=")
+            .append(URLEncoder.encode(organizationUrn, StandardCharsets.UTF_8));
+
+        if (bucket != null) {
+            url.append("&timeIntervals=(timeRange:(start:").append(bucket.start().toEpochMilli())
+                .append(",end:").append(bucket.end().toEpochMilli())
+                .append("),timeGranularityType:").append(timeGranularity.name()).append(")");
+        }
+
+        for (String urn : postUrns) {
+            // a dropped URN could leave no post filter at all and silently turn the query into organization-wide statistics
+            if (!urn.startsWith(SHARE_URN_PREFIX) && !urn.startsWith(UGC_POST_URN_PREFIX)) {
+                throw new IllegalArgumentException("Invalid post URN '" + urn + "': only " + SHARE_URN_PREFIX + " and " + UGC_POST_URN_PREFIX + " URNs are supported");
+            }
+        }
+
+        appendList(url, "shares", postUrns.stream().filter(urn -> urn.startsWith(SHARE_URN_PREFIX)).toList());
+        appendList(url, "ugcPosts", postUrns.stream().filter(urn -> urn.startsWith(UGC_POST_URN_PREFIX)).toList());
+
+        return url.toString();
+    }
+
+    private static void appendList(StringBuilder url, String name, List<String> urns) {
+        if (urns.isEmpty()) {
+            return;
+        }
+
+        url.append("&").append(name).append("=List(")
+            .append(urns.stream().map(urn -> URLEncoder.encode(urn, StandardCharsets.UTF_8)).collect(Collectors.joining(",")))
+            .append(")");
+    }
+
+    static List<List<String>> batches(List<String> postUrns, int batchSize) {
+        if (postUrns.isEmpty()) {
+            return List.of(List.of());
+        }
+
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < postUrns.size(); i += batchSize) {
+            batches.add(postUrns.subList(i, Math.min(i + batchSize, postUrns.size())));
+        }
+        return batches;
+    }
+
+    public enum TimeGranularity {
+        DAY,
+        MONTH
+    }
+
+    @Builder
+    @Getter
+    public static class Output implements io.kestra.core.models.tasks.Output {
+        @Schema(title = "Statistics rows", description = "ION file with one row per post (or organization) and time bucket, holding impressions, clicks and engagement counts")
+        private final URI uri;
+
+        @Schema(title = "Number of rows written")
+        private final Long rowsCount;
+
+        @Schema(title = "Number of API requests sent")
+        private final Integer requestsCount;
+    }
+}
@@ -1,27 +1,37 @@
 package io.kestra.plugin.linkedin;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
-import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.serializers.FileSerde;
 
+import io.opentelemetry.context.Context;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 import io.kestra.core.models.annotations.PluginProperty;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @SuperBuilder
 @ToString
@@ -30,7 +40,7 @@ import io.kestra.core.models.annotations.PluginProperty;
 @NoArgsConstructor
 @Schema(
     title = "Fetch LinkedIn post reactions",
-    description = "Retrieves reactions for one or more LinkedIn activity URNs using the REST reactions endpoint. Returns per-post totals, reaction breakdown, and actor metadata; uses LinkedIn-Version 202509 and X-Restli-Protocol-Version 2.0.0."
+    description = "Retrieves reactions for one or more LinkedIn activity URNs using the REST reactions endpoint. Returns per-post totals, reaction breakdown, and actor metadata; sends the configured `apiVersion` as LinkedIn-Version (default 202509) and X-Restli-Protocol-Version 2.0.0."
 )
 @Plugin(
     examples = {
@@ -54,66 +64,629 @@ import io.kestra.core.models.annotations.PluginProperty;
                     activityUrns:
                       - "urn:li:activity:7374025671234244609"
                 """
+        ),
+        @Example(
+            title = "Fetch reactions for a large list of posts stored in a file",
+            full = true,
+            code = """
+                id: linkedin_post_archive_analytics
+                namespace: company.team
+
+                inputs:
+                  - id: urns
+                    type: FILE
+
+                tasks:
+                  - id: get_analytics
+                    type: io.kestra.plugin.linkedin.GetPostAnalytics
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    activityUrnsFrom: "{{ inputs.urns }}"
+                    fetchType: STORE
+                """
+        ),
+        @Example(
+            title = "Track hourly reaction deltas",
+            full = true,
+            code = """
+                id: linkedin_reaction_deltas
+                namespace: company.team
+
+                tasks:
+                  - id: get_analytics
+                    type: io.kestra.plugin.linkedin.GetPostAnalytics
+                    accessToken: "{{ secret('LINKEDIN_ACCESS_TOKEN') }}"
+                    incremental: true
+                    activityUrns:
+                      - "urn:li:activity:7374025671234244609"
+
+                triggers:
+                  - id: hourly
+                    type: io.kestra.plugin.core.trigger.Schedule
+                    cron: "@hourly"
+                """
         )
     }
 )
 public class GetPostAnalytics extends AbstractLinkedinTask implements RunnableTask<GetPostAnalytics.Output> {
 
-    @Schema(title = "Activity URNs", description = "List of LinkedIn activity URNs to fetch reactions for")
-    @NotNull
+    @Schema(title = "Activity URNs", description = "List of LinkedIn activity URNs to fetch reactions for; exclusive with `activityUrnsFrom`")
     @PluginProperty(group = "main")
     private Property<List<String>> activityUrns;
 
+    @Schema(
+        title = "Activity URNs file",
+        description = "`kestra://` internal storage URI of a file listing the activity URNs, read lazily one URN at a time. " +
+            "Supports ION (strings or records with an `urn` field), CSV (first column) and newline-separated lists; exclusive with `activityUrns`."
+    )
+    @PluginProperty(internalStorageURI = true, group = "main")
+    private Property<String> activityUrnsFrom;
+
+    @Schema(
+        title = "Fetch type",
+        description = "`FETCH` returns the per-post data in the `posts` output, `STORE` streams it to an ION file in internal storage exposed as `uri`, keeping memory constant for large URN lists"
+    )
+    @Builder.Default
+    @NotNull
+    @PluginProperty(group = "execution")
+    private Property<FetchType> fetchType = Property.ofValue(FetchType.FETCH);
+
+    @Schema(
+        title = "Incremental mode",
+        description = "Store a per-post snapshot (newest reaction time and per-type counts) in the namespace KV store and only fetch reactions newer than it. " +
+            "Each post then reports the new reactions, the per-type deltas and the updated totals. The first run of a post pages through all its reactions to build the snapshot. " +
+            "Snapshots are only saved once the output is stored, so a failed run reports the same reactions again on the next one. " +
+            "Totals only grow: removed reactions are not subtracted, and reactions without a creation time are skipped as they can't be placed relative to the snapshot."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> incremental = Property.ofValue(false);
+
+    @Schema(
+        title = "Aggregation",
+        description = "`HOURLY` or `DAILY` only keeps per-type counts and a reaction histogram per post, computed while paging through all the reactions, instead of the individual `reactions`. " +
+            "Engagement-over-time reports then need a fraction of the memory and output size. In incremental mode, the histogram covers the new reactions."
+    )
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<Aggregation> aggregation = Property.ofValue(Aggregation.NONE);
+
+    @Schema(title = "Snapshot key prefix", description = "Prefix of the KV keys holding the incremental snapshots; use distinct prefixes to track the same posts independently")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<String> snapshotKeyPrefix = Property.ofValue("linkedin_post_analytics");
+
+    @Schema(title = "Page size", description = "Number of reactions requested per page in incremental mode")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Integer> pageSize = Property.ofValue(100);
+
+    @Schema(
+        title = "Enrich actors",
+        description = "Resolve the person and organization URNs of the reaction actors into names and headlines, exposed as `actor` on each reaction. " +
+            "Profiles are batch-resolved and cached per worker, so repeat actors cost no extra request."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> enrichActors = Property.ofValue(false);
+
+    @Schema(title = "Actor profile cache TTL", description = "How long a resolved actor profile is reused before being requested again")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Duration> actorCacheTtl = Property.ofValue(Duration.ofHours(24));
+
+    @Schema(title = "Share actor profiles through the KV store", description = "Also cache resolved actor profiles in the namespace KV store, so they survive worker restarts and are shared across workers")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> actorCacheInKvStore = Property.ofValue(false);
+
+    @Schema(
+        title = "Hedge slow requests",
+        description = "When a reactions request is slower than the `hedgePercentile` of the latencies observed so far in the run, send a duplicate and keep the first answer. " +
+            "Cuts the tail latency of large URN lists; duplicates are capped to 10% of the requests."
+    )
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Boolean> hedgeRequests = Property.ofValue(false);
+
+    @Schema(title = "Hedging percentile", description = "Latency percentile, between 0 and 100, after which a slow request is hedged")
+    @Builder.Default
+    @PluginProperty(group = "advanced")
+    private Property<Double> hedgePercentile = Property.ofValue(95.0);
+
+    @Schema(
+        title = "Concurrency",
+        description = "Maximum number of posts fetched at the same time. Each request waits on a virtual thread, so a high value does not tie up worker threads; " +
+            "posts are still written in the order of the URNs."
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Schema(title = "Maximum requests per second", description = "Global request rate budget of the run; unlimited when not set")
+    @PluginProperty(group = "execution")
+    private Property<Double> maxRequestsPerSecond;
+
+    @Schema(
+        title = "Post priorities",
+        description = "Priority of activity URNs, from 0 (default) to 10. Higher priority posts are fetched first, so they stay fresh when `maxRequestsPerSecond` or `maxDuration` is the bottleneck; " +
+            "posts are then written in the order they were fetched. Can't be combined with `resumeCursor` or `checkpoint`."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Map<String, Integer>> priorities;
+
+    @Schema(
+        title = "Prioritize recent posts",
+        description = "Derive the priority of the posts without one in `priorities` from their age, read from the creation time encoded in their URN: " +
+            "10 under a day, 6 under a week, 3 under 30 days, 0 otherwise. " +
+            "A post with a reaction or comment seen by a previous run of the worker is raised to 10 when that activity is under an hour old, 6 under a day and 3 under a week."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> prioritizeRecentPosts = Property.ofValue(false);
+
+    @Schema(
+        title = "Priority aging",
+        description = "Number of later posts allowed to overtake a post per level of priority they have above it. Lower values fetch low priority posts sooner."
+    )
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "advanced")
+    private Property<Integer> priorityAging = Property.ofValue(50);
+
+    @Schema(
+        title = "Maximum duration",
+        description = "Time budget of the run. No new URN is started once the slowest URN fetched so far would not complete within the remaining budget; " +
+            "the posts already fetched are returned and `resumeCursor` tells where to continue. Set it below the task `timeout` to keep partial results."
+    )
+    @PluginProperty(group = "execution")
+    private Property<Duration> maxDuration;
+
+    @Schema(
+        title = "Resume cursor",
+        description = "`resumeCursor` output of a previous run that stopped on `maxDuration`; the URNs it already processed are skipped. " +
+            "The URN list must be the same as in that run."
+    )
+    @Min(0)
+    @PluginProperty(group = "execution")
+    private Property<Integer> resumeCursor;
+
+    @Schema(
+        title = "Checkpoint progress",
+        description = "Save the progress every `checkpointEvery` posts: the fetched records are uploaded to internal storage and the URN position in the namespace KV store. " +
+            "When the task is retried or the execution restarted after a failure or a lost worker, the new attempt resumes from the last checkpoint instead of the first URN. " +
+            "Requires `fetchType: STORE`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "execution")
+    private Property<Boolean> checkpoint = Property.ofValue(false);
+
+    @Schema(title = "Checkpoint interval", description = "Number of posts fetched between two checkpoints")
+    @Builder.Default
+    @Min(1)
+    @PluginProperty(group = "execution")
+    private Property<Integer> checkpointEvery = Property.ofValue(50);
+
     @Override
     public Output run(RunContext runContext) throws Exception {
-        List<String> rActivityUrns = runContext.render(this.activityUrns).asList(String.class);
+        boolean rIncremental = runContext.render(this.incremental).as(Boolean.class).orElse(false);
+        String rSnapshotKeyPrefix = runContext.render(this.snapshotKeyPrefix).as(String.class).orElse("linkedin_post_analytics");
+        int rPageSize = runContext.render(this.pageSize).as(Integer.class).orElse(100);
+        FetchType rFetchType = runContext.render(this.fetchType).as(FetchType.class).orElse(FetchType.FETCH);
+        if (rFetchType != FetchType.FETCH && rFetchType != FetchType.STORE) {
+            throw new IllegalArgumentException("Unsupported fetchType '" + rFetchType + "': only FETCH and STORE are supported");
+        }
+
+        Aggregation rAggregation = runContext.render(this.aggregation).as(Aggregation.class).orElse(Aggregation.NONE);
+
+        Double rMaxRequestsPerSecond = runContext.render(this.maxRequestsPerSecond).as(Double.class).orElse(null);
+        LinkedinRateLimiter rateLimiter = rMaxRequestsPerSecond != null ? new LinkedinRateLimiter(rMaxRequestsPerSecond) : null;
+        RequestHedger hedger = runContext.render(this.hedgeRequests).as(Boolean.class).orElse(false)
+            ? new RequestHedger(runContext.render(this.hedgePercentile).as(Double.class).orElse(95.0), rateLimiter)
+            : null;
+        LinkedinConnection connection = createLinkedinConnection(runContext);
+        // a hedged duplicate must not be coalesced with the slow request it duplicates
+        LinkedinRequestTemplate template = hedger != null ? connection.template().withCoalescing(null) : connection.template();
+        ActorProfileResolver actorProfileResolver = null;
+
+        FetchBudget budget = FetchBudget.of(runContext.render(this.maxDuration).as(Duration.class).orElse(null));
+        int rResumeCursor = runContext.render(this.resumeCursor).as(Integer.class).orElse(0);
+        int rConcurrency = runContext.render(this.concurrency).as(Integer.class).orElse(4);
+        AtomicBoolean stoppedOnDeadline = new AtomicBoolean();
+        // shared by the posts fetched concurrently, so the reactions of the same actors hold a single copy of their URN
+        UrnDictionary urns = new UrnDictionary();
+        // the posts are fetched on the request threads, their spans are nested under the task run span
+        Context tracingContext = Context.current();
+
+        PostAnalyticsCheckpoint checkpoint = null;
+        if (runContext.render(this.checkpoint).as(Boolean.class).orElse(false)) {
+            if (rFetchType != FetchType.STORE) {
+                throw new IllegalArgumentException("Checkpoints require fetchType STORE, the fetched posts must be kept in internal storage to be resumed");
+            }
+            checkpoint = PostAnalyticsCheckpoint.load(runContext, runContext.render(this.checkpointEvery).as(Integer.class).orElse(50));
+        }
+
+        PostScheduler scheduler = PostScheduler.of(
+            this.priorities != null ? runContext.render(this.priorities).asMap(String.class, Integer.class) : null,
+            runContext.render(this.prioritizeRecentPosts).as(Boolean.class).orElse(false),
+            runContext.render(this.priorityAging).as(Integer.class).orElse(50),
+            rateLimiter
+        );
+        if (scheduler != null && (checkpoint != null || rResumeCursor > 0)) {
+            throw new IllegalArgumentException("Post priorities can't be combined with resumeCursor or checkpoint, which rely on the posts being fetched in the order of the URNs");
+        }
+
+        boolean resumingCheckpoint = checkpoint != null && checkpoint.getPosition() > rResumeCursor;
+        int position = resumingCheckpoint ? checkpoint.getPosition() : rResumeCursor;
+        int totalPosts = resumingCheckpoint ? checkpoint.getTotalPosts() : 0;
+        int totalReactions = resumingCheckpoint ? checkpoint.getTotalReactions() : 0;
+        int totalNewReactions = resumingCheckpoint ? checkpoint.getTotalNewReactions() : 0;
+
+        Flux<String> rActivityUrns = UrnSource.of(runContext, this.activityUrns, "activityUrns", this.activityUrnsFrom, "activityUrnsFrom")
+            .skip(position);
+        if (scheduler != null) {
+            rActivityUrns = scheduler.schedule(rActivityUrns);
+        }
         List<PostReactionsData> results = new ArrayList<>();
+        // the updated reaction snapshots of the posts written so far, saved once the output is stored
+        Map<String, ReactionSnapshot> pendingSnapshots = new LinkedHashMap<>(resumingCheckpoint ? checkpoint.getSnapshots() : Map.of());
+
+        File tempFile = rFetchType == FetchType.STORE ? runContext.workingDir().createTempFile(".ion").toFile() : null;
+
+        try (
+            HttpClient httpClient = connection.httpClient(runContext);
+            OutputStream output = tempFile != null ? new BufferedOutputStream(new FileOutputStream(tempFile), FileSerde.BUFFER_SIZE) : null
+        ) {
+            if (resumingCheckpoint) {
+                checkpoint.restore(output);
+            }
 
-        try (HttpClient httpClient = createLinkedinHttpRequestFactory(runContext)) {
-            for (String activityUrn : rActivityUrns) {
+            if (runContext.render(this.enrichActors).as(Boolean.class).orElse(false)) {
+                actorProfileResolver = new ActorProfileResolver(
+                    runContext,
+                    httpClient,
+                    template,
+                    runContext.render(this.actorCacheTtl).as(Duration.class).orElse(Duration.ofHours(24)),
+                    runContext.render(this.actorCacheInKvStore).as(Boolean.class).orElse(false) ? runContext.flowInfo().namespace() : null
+                );
+            }
+
+            // posts are fetched concurrently on virtual threads and handed over in URN order; fetching waits for the writer
+            // below once rConcurrency posts are pending, so memory stays bounded whatever the number of URNs
+            Flux<FetchedPost> fetched = rActivityUrns
+                .<FetchUnit>handle((activityUrn, sink) -> {
+                    OptionalLong startedAt = budget.tryStart();
+                    if (startedAt.isPresent()) {
+                        sink.next(new FetchUnit(activityUrn, startedAt.getAsLong()));
+                    } else {
+                        stoppedOnDeadline.set(true);
+                        sink.complete();
+                    }
+                })
+                .flatMapSequential(
+                    unit -> Mono.fromCallable(tracingContext.wrap(() -> this.fetchPost(runContext, httpClient, template, hedger, rateLimiter, budget, unit, rIncremental, rSnapshotKeyPrefix, rPageSize, rAggregation, urns)))
+                        .subscribeOn(LinkedinSchedulers.requests()),
+                    rConcurrency,
+                    1
+                );
+
+            // closing the stream cancels the pending fetches and the URN source on failure
+            try (Stream<FetchedPost> posts = fetched.toStream(rConcurrency)) {
+                for (Iterator<FetchedPost> iterator = posts.iterator(); iterator.hasNext(); ) {
+                    FetchedPost fetchedPost = iterator.next();
+                    PostReactionsData postData = fetchedPost.data();
+
+                    if (actorProfileResolver != null && postData.getReactions() != null) {
+                        postData = enrichActors(actorProfileResolver, postData);
+                    }
+
+                    position++;
+                    totalPosts++;
+                    totalReactions += postData.getTotalReactions();
+                    if (rIncremental) {
+                        totalNewReactions += postData.getNewReactions();
+                    }
+                    if (output != null) {
+                        FileSerde.write(output, postData);
+                    } else {
+                        results.add(postData);
+                    }
+
+                    if (fetchedPost.snapshotKey() != null) {
+                        pendingSnapshots.put(fetchedPost.snapshotKey(), fetchedPost.snapshot());
+                    }
+                    if (checkpoint != null) {
+                        checkpoint.record(postData, fetchedPost.snapshotKey(), fetchedPost.snapshot(), position, totalPosts, totalReactions, totalNewReactions);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            if (checkpoint != null) {
+                // keep the posts fetched since the last checkpoint for the next attempt
                 try {
-                    String encodedUrn = URLEncoder.encode(activityUrn, StandardCharsets.UTF_8);
-
-                    String finalUrl = getLinkedinApiBaseUrl(runContext) + "/reactions/(entity:" + encodedUrn
-                        + ")?q=entity&sort=(value:REVERSE_CHRONOLOGICAL)";
-
-                    HttpRequest request = HttpRequest.builder()
-                        .uri(URI.create(finalUrl))
-                        .method("GET")
-                        .addHeader("LinkedIn-Version", "202509")
-                        .addHeader("X-Restli-Protocol-Version", "2.0.0")
-                        .build();
-                    HttpResponse<String> response = httpClient.request(request, String.class);
-
-                    String responseBody = response.getBody();
-
-                    JsonNode jsonResponse = JacksonMapper.ofJson().readTree(responseBody);
-                    PostReactionsData postData = parsePostReactions(activityUrn, jsonResponse);
-                    results.add(postData);
-
-                } catch (Exception e) {
-                    runContext.logger().error("Failed to retrieve reactions for URN: {}", activityUrn, e);
-                    results.add(
-                        PostReactionsData.builder()
-                            .activityUrn(activityUrn)
-                            .totalReactions(0)
-                            .reactions(new ArrayList<>())
-                            .reactionsSummary(new HashMap<>())
-                            .error("Failed: " + e.getMessage())
-                            .build()
-                    );
-                    throw new RuntimeException("Failed to retrieve reactions for: " + activityUrn, e);
+                    checkpoint.save();
+                } catch (Exception saveException) {
+                    e.addSuppressed(saveException);
+                }
+            }
+            throw e;
+        }
+
+        if (stoppedOnDeadline.get() && scheduler != null) {
+            runContext.logger().warn("Stopped after {} posts to stay within maxDuration, the lower priority posts were not fetched", totalPosts);
+        } else if (stoppedOnDeadline.get()) {
+            runContext.logger().warn(
+                "Stopped after {} posts to stay within maxDuration, resume from cursor {}", totalPosts, position
+            );
+        }
+
+        if (hedger != null) {
+            runContext.logger().debug("Hedged {} slow reactions requests", hedger.hedgesCount());
+        }
+
+        Output.OutputBuilder builder = Output.builder()
+            .totalPosts(totalPosts)
+            .totalReactions(totalReactions)
+            .totalNewReactions(rIncremental ? totalNewReactions : null)
+            // the posts fetched out of order can't be resumed from a position
+            .resumeCursor(stoppedOnDeadline.get() && scheduler == null ? position : null);
+
+        if (tempFile != null) {
+            builder.uri(runContext.storage().putFile(tempFile));
+        } else {
+            builder.posts(results);
+        }
+
+        // only now that the output is stored, so the reactions of a failed run are reported again by the next one
+        for (Map.Entry<String, ReactionSnapshot> snapshot : pendingSnapshots.entrySet()) {
+            snapshot.getValue().save(runContext, snapshot.getKey());
+        }
+
+        if (checkpoint != null) {
+            checkpoint.delete();
+        }
+
+        return builder.build();
+    }
+
+    private PostReactionsData enrichActors(ActorProfileResolver actorProfileResolver, PostReactionsData postData) {
+        Map<String, ActorProfile> profiles = actorProfileResolver.resolve(
+            postData.getReactions().stream().map(ReactionData::getActorUrn).toList()
+        );
+
+        return postData.toBuilder()
+            .reactions(
+                postData.getReactions().stream()
+                    .map(reaction -> reaction.toBuilder().actor(profiles.get(reaction.getActorUrn())).build())
+                    .toList()
+            )
+            .build();
+    }
+
+    private FetchedPost fetchPost(
+        RunContext runContext,
+        HttpClient httpClient,
+        LinkedinRequestTemplate template,
+        RequestHedger hedger,
+        LinkedinRateLimiter rateLimiter,
+        FetchBudget budget,
+        FetchUnit unit,
+        boolean incremental,
+        String snapshotKeyPrefix,
+        int pageSize,
+        Aggregation aggregation,
+        UrnDictionary urns
+    ) {
+        String activityUrn = unit.activityUrn();
+
+        try {
+            FetchedPost fetchedPost = LinkedinTracing.inSpan("linkedin.fetch_post", span -> {
+                span.setAttribute(LinkedinTracing.URN, activityUrn);
+
+                String path = "/reactions/(entity:" + URLEncoder.encode(activityUrn, StandardCharsets.UTF_8) + ")?q=entity&sort=(value:REVERSE_CHRONOLOGICAL)";
+
+                ReactionAggregator aggregator = aggregation != Aggregation.NONE ? new ReactionAggregator(aggregation) : null;
+                FetchedPost fetched;
+                if (incremental) {
+                    fetched = fetchIncremental(runContext, httpClient, template, hedger, rateLimiter, path, activityUrn, snapshotKeyPrefix, pageSize, aggregator, urns);
+                } else if (aggregator != null) {
+                    fetched = new FetchedPost(fetchAggregated(httpClient, template, hedger, rateLimiter, path, activityUrn, pageSize, aggregator), null, null);
+                } else {
+                    fetched = new FetchedPost(parsePostReactions(activityUrn, fetchPage(httpClient, template, hedger, rateLimiter, path, 1), urns), null, null);
+                }
+
+                List<ReactionData> reactions = fetched.data().getReactions();
+                span.setAttribute(LinkedinTracing.RECORDS, (long) (reactions != null ? reactions.size() : 0));
+                PostScheduler.recordActivity(activityUrn, newestReactionTime(fetched));
+                return fetched;
+            });
+
+            budget.finish(unit.startedAt());
+            return fetchedPost;
+        } catch (Exception e) {
+            runContext.logger().error("Failed to retrieve reactions for URN: {}", activityUrn, e);
+            throw new RuntimeException("Failed to retrieve reactions for: " + activityUrn, e);
+        }
+    }
+
+    /**
+     * @return the creation time of the newest reaction fetched, {@code -1} when unknown, e.g. for aggregated reactions
+     */
+    private static long newestReactionTime(FetchedPost fetched) {
+        if (fetched.snapshot() != null) {
+            return fetched.snapshot().getLastReactionTime();
+        }
+
+        long newest = -1;
+        if (fetched.data().getReactions() != null) {
+            for (ReactionData reaction : fetched.data().getReactions()) {
+                newest = Math.max(newest, reaction.createdTimeMillis());
+            }
+        }
+        return newest;
+    }
+
+    private JsonNode fetchPage(HttpClient httpClient, LinkedinRequestTemplate template, RequestHedger hedger, LinkedinRateLimiter rateLimiter, String path, int page) throws Exception {
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+
+        return LinkedinTracing.inSpan("linkedin.fetch_page", span -> {
+            span.setAttribute(LinkedinTracing.PAGE, (long) page);
+            JsonNode json = hedger != null
+                ? hedger.execute(LinkedinTracing.wrap(() -> template.fetchJson(httpClient, path)))
+                : template.fetchJson(httpClient, path);
+            span.setAttribute(LinkedinTracing.ELEMENTS, (long) json.path("elements").size());
+            return json;
+        });
+    }
+
+    /**
+     * Pages through the reactions newest first until reaching the ones already counted in the stored snapshot.
+     *
+     * @return the new reactions with the updated snapshot, left for the caller to save once the output is stored
+     */
+    private FetchedPost fetchIncremental(
+        RunContext runContext,
+        HttpClient httpClient,
+        LinkedinRequestTemplate template,
+        RequestHedger hedger,
+        LinkedinRateLimiter rateLimiter,
+        String path,
+        String activityUrn,
+        String snapshotKeyPrefix,
+        int pageSize,
+        ReactionAggregator aggregator,
+        UrnDictionary urns
+    ) throws Exception {
+        String snapshotKey = ReactionSnapshot.key(snapshotKeyPrefix, activityUrn);
+        ReactionSnapshot snapshot = ReactionSnapshot.load(runContext, snapshotKey);
+
+        List<ReactionData> newReactions = aggregator == null ? new ArrayList<>() : null;
+        int newReactionsCount = 0;
+        Map<String, Integer> reactionsDelta = new HashMap<>();
+        long newestReactionTime = snapshot.getLastReactionTime();
+        Set<String> newestReactionKeys = new HashSet<>(snapshot.getLastReactionKeys());
+        boolean reachedSnapshot = false;
+        int undatedReactions = 0;
+        int start = 0;
+
+        while (!reachedSnapshot) {
+            JsonNode page = fetchPage(httpClient, template, hedger, rateLimiter, path + "&start=" + start + "&count=" + pageSize, start / pageSize + 1);
+            JsonNode elements = page.path("elements");
+
+            for (JsonNode element : elements) {
+                ReactionData reaction = parseReactionElement(element, urns);
+                long createdTime = reaction.createdTimeMillis();
+                if (createdTime < 0) {
+                    // can't tell whether it was counted by a previous run
+                    undatedReactions++;
+                    continue;
+                }
+                if (createdTime < snapshot.getLastReactionTime()) {
+                    reachedSnapshot = true;
+                    break;
+                }
+                String reactionKey = ReactionSnapshot.reactionKey(reaction.getReactionId(), reaction.getActorUrn(), reaction.getReactionType());
+                // counted by a previous run, a snapshot saved without keys is assumed to have counted the whole millisecond
+                if (createdTime == snapshot.getLastReactionTime()
+                    && (snapshot.getLastReactionKeys().isEmpty() || snapshot.getLastReactionKeys().contains(reactionKey))) {
+                    continue;
+                }
+
+                newReactionsCount++;
+                if (aggregator != null) {
+                    aggregator.add(reaction.getReactionType(), createdTime);
+                } else {
+                    newReactions.add(reaction);
+                }
+                if (reaction.getReactionType() != null) {
+                    reactionsDelta.merge(reaction.getReactionType(), 1, Integer::sum);
+                }
+                if (createdTime > newestReactionTime) {
+                    newestReactionTime = createdTime;
+                    newestReactionKeys.clear();
+                }
+                if (createdTime == newestReactionTime) {
+                    newestReactionKeys.add(reactionKey);
                 }
             }
+
+            if (elements.size() < pageSize) {
+                break;
+            }
+            start += elements.size();
+        }
+
+        Map<String, Integer> reactionsSummary = new HashMap<>(snapshot.getReactionsSummary());
+        reactionsDelta.forEach((type, count) -> reactionsSummary.merge(type, count, Integer::sum));
+        int totalReactions = snapshot.getTotalReactions() + newReactionsCount;
+
+        if (undatedReactions > 0) {
+            runContext.logger().debug("Skipped {} reactions without creation time for URN: {}", undatedReactions, activityUrn);
         }
-        return Output.builder()
-            .posts(results)
-            .totalPosts(results.size())
-            .totalReactions(results.stream().mapToInt(PostReactionsData::getTotalReactions).sum())
+        runContext.logger().debug("Found {} new reactions for URN: {}", newReactionsCount, activityUrn);
+
+        PostReactionsData postData = PostReactionsData.builder()
+            .activityUrn(activityUrn)
+            .totalReactions(totalReactions)
+            .reactions(newReactions)
+            .reactionsSummary(reactionsSummary)
+            .newReactions(newReactionsCount)
+            .reactionsDelta(reactionsDelta)
+            .histogram(aggregator != null ? aggregator.histogram() : null)
             .build();
+
+        return newReactionsCount > 0 || snapshot.isEmpty()
+            ? new FetchedPost(postData, snapshotKey, new ReactionSnapshot(newestReactionTime, newestReactionKeys, totalReactions, reactionsSummary))
+            : new FetchedPost(postData, null, null);
     }
 
-    private PostReactionsData parsePostReactions(String activityUrn, JsonNode jsonResponse) {
+    /**
+     * Pages through all the reactions of a post, only keeping their per-type counts and histogram.
+     */
+    private PostReactionsData fetchAggregated(
+        HttpClient httpClient,
+        LinkedinRequestTemplate template,
+        RequestHedger hedger,
+        LinkedinRateLimiter rateLimiter,
+        String path,
+        String activityUrn,
+        int pageSize,
+        ReactionAggregator aggregator
+    ) throws Exception {
+        Integer total = null;
+        int start = 0;
+
+        while (true) {
+            JsonNode page = fetchPage(httpClient, template, hedger, rateLimiter, path + "&start=" + start + "&count=" + pageSize, start / pageSize + 1);
+            JsonNode elements = page.path("elements");
+
+            for (JsonNode element : elements) {
+                aggregator.add(
+                    element.has("reactionType") ? element.get("reactionType").asText() : null,
+                    element.path("created").path("time").asLong(-1)
+                );
+            }
+
+            if (page.path("paging").has("total")) {
+                total = page.get("paging").get("total").asInt();
+            }
+            if (elements.size() < pageSize) {
+                break;
+            }
+            start += elements.size();
+        }
+
+        return PostReactionsData.builder()
+            .activityUrn(activityUrn)
+            .totalReactions(total != null ? total : aggregator.total())
+            .reactionsSummary(aggregator.summary())
+            .histogram(aggregator.histogram())
+            .build();
+    }
+
+    private PostReactionsData parsePostReactions(String activityUrn, JsonNode jsonResponse, UrnDictionary urns) {
         List<ReactionData> reactions = new ArrayList<>();
         Map<String, Integer> reactionsSummary = new HashMap<>();
         int totalReactions;
@@ -121,7 +694,7 @@ public class GetPostAnalytics extends AbstractLinkedinTask implements RunnableTa
         if (jsonResponse.has("elements")) {
             JsonNode elements = jsonResponse.get("elements");
             for (JsonNode element : elements) {
-                ReactionData reaction = parseReactionElement(element);
+                ReactionData reaction = parseReactionElement(element, urns);
                 reactions.add(reaction);
 
                 String reactionType = reaction.getReactionType();
@@ -146,7 +719,7 @@ public class GetPostAnalytics extends AbstractLinkedinTask implements RunnableTa
             .build();
     }
 
-    private ReactionData parseReactionElement(JsonNode reactionObj) {
+    private ReactionData parseReactionElement(JsonNode reactionObj, UrnDictionary urns) {
         ReactionData.ReactionDataBuilder builder = ReactionData.builder();
 
         if (reactionObj.has("id"))
@@ -154,16 +727,16 @@ public class GetPostAnalytics extends AbstractLinkedinTask implements RunnableTa
         if (reactionObj.has("reactionType"))
             builder.reactionType(reactionObj.get("reactionType").asText());
         if (reactionObj.has("root"))
-            builder.rootUrn(reactionObj.get("root").asText());
+            builder.rootUrn(urns.intern(reactionObj.get("root").asText()));
 
         if (reactionObj.has("created")) {
             JsonNode created = reactionObj.get("created");
             if (created.has("actor"))
-                builder.actorUrn(created.get("actor").asText());
+                builder.actorUrn(urns.intern(created.get("actor").asText()));
             if (created.has("time"))
                 builder.createdTime(created.get("time").asLong());
             if (created.has("impersonator"))
-                builder.impersonatorUrn(created.get("impersonator").asText());
+                builder.impersonatorUrn(urns.intern(created.get("impersonator").asText()));
         }
 
         if (reactionObj.has("lastModified")) {
@@ -181,14 +754,26 @@ public class GetPostAnalytics extends AbstractLinkedinTask implements RunnableTa
         @Schema(title = "Per-post reaction data", description = "Reaction details for each requested activity URN")
         private final List<PostReactionsData> posts;
 
+        @Schema(title = "Stored per-post reaction data", description = "ION file with one record per post; only set when `fetchType` is `STORE`")
+        private final URI uri;
+
         @Schema(title = "Total posts processed", description = "Number of activity URNs for which reactions were fetched")
         private final Integer totalPosts;
 
         @Schema(title = "Total reactions", description = "Sum of reactions across all processed posts")
         private final Integer totalReactions;
+
+        @Schema(title = "Total new reactions", description = "Sum of reactions added since the previous run across all posts; only set in incremental mode")
+        private final Integer totalNewReactions;
+
+        @Schema(
+            title = "Resume cursor",
+            description = "Set when the run stopped on `maxDuration` before processing all the URNs; pass it as `resumeCursor` to a new run to fetch the remaining ones"
+        )
+        private final Integer resumeCursor;
     }
 
-    @Builder
+    @Builder(toBuilder = true)
     @Getter
     public static class PostReactionsData {
         private final String activityUrn;
@@ -196,17 +781,135 @@ public class GetPostAnalytics extends AbstractLinkedinTask implements RunnableTa
         private final List<ReactionData> reactions;
         private final Map<String, Integer> reactionsSummary;
         private final String error;
+
+        @Schema(title = "Reactions added since the previous run", description = "Only set in incremental mode, where `reactions` only holds these new reactions")
+        private final Integer newReactions;
+
+        @Schema(title = "Per-type reaction counts added since the previous run", description = "Only set in incremental mode")
+        private final Map<String, Integer> reactionsDelta;
+
+        @Schema(title = "Reaction histogram", description = "Only set when `aggregation` is `HOURLY` or `DAILY`, in which case `reactions` is not set")
+        private final ReactionHistogram histogram;
     }
 
     @Builder
     @Getter
+    public static class ReactionHistogram {
+        @Schema(title = "Bucket width in milliseconds")
+        private final long bucketMillis;
+
+        @Schema(title = "Start of each non-empty bucket", description = "Epoch milliseconds, oldest first")
+        private final long[] bucketStarts;
+
+        @Schema(title = "Number of reactions of each bucket", description = "Aligned with `bucketStarts`")
+        private final int[] counts;
+
+        @Schema(title = "Number of reactions of each bucket per reaction type", description = "Aligned with `bucketStarts`")
+        private final Map<String, int[]> countsByType;
+    }
+
+    /**
+     * A URN whose fetch was started within the time budget.
+     */
+    private record FetchUnit(String activityUrn, long startedAt) {
+    }
+
+    /**
+     * A fetched post with, in incremental mode, its updated reaction snapshot; {@code snapshotKey} is {@code null} when
+     * there is nothing to save.
+     */
+    private record FetchedPost(PostReactionsData data, String snapshotKey, ReactionSnapshot snapshot) {
+    }
+
+    public enum Aggregation {
+        NONE,
+        HOURLY,
+        DAILY
+    }
+
+    /**
+     * The reaction types of the LinkedIn Reactions API; serialized by name, like the raw type they replace.
+     */
+    public enum ReactionType {
+        LIKE,
+        PRAISE,
+        EMPATHY,
+        INTEREST,
+        APPRECIATION,
+        ENTERTAINMENT,
+        MAYBE;
+
+        /**
+         * @return the matching type, {@code null} if the type is unknown to this version of the plugin
+         */
+        static ReactionType of(String value) {
+            for (ReactionType type : values()) {
+                if (type.name().equals(value)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A single reaction, kept compact as large outputs hold thousands of them: the type is an enum, timestamps are
+     * primitives with {@code -1} standing for an unknown time, and URNs are shared through a {@link UrnDictionary}.
+     */
+    @Builder(toBuilder = true)
+    @Getter
     public static class ReactionData {
         private final String reactionId;
-        private final String reactionType;
+
+        @Getter(AccessLevel.NONE)
+        private final ReactionType type;
+
+        // only set for a type this plugin doesn't know, so it is still reported as is
+        @Getter(AccessLevel.NONE)
+        private final String unknownType;
+
         private final String actorUrn;
         private final String rootUrn;
-        private final Long createdTime;
-        private final Long lastModifiedTime;
+
+        @Getter(AccessLevel.NONE)
+        @Builder.Default
+        private final long createdTime = -1;
+
+        @Getter(AccessLevel.NONE)
+        @Builder.Default
+        private final long lastModifiedTime = -1;
+
         private final String impersonatorUrn;
+
+        @Schema(title = "Actor profile", description = "Only set when `enrichActors` is enabled and the actor could be resolved")
+        private final ActorProfile actor;
+
+        public String getReactionType() {
+            return this.type != null ? this.type.name() : this.unknownType;
+        }
+
+        public Long getCreatedTime() {
+            return this.createdTime >= 0 ? this.createdTime : null;
+        }
+
+        public Long getLastModifiedTime() {
+            return this.lastModifiedTime >= 0 ? this.lastModifiedTime : null;
+        }
+
+        /**
+         * @return the creation time in epoch milliseconds, negative if unknown
+         */
+        long createdTimeMillis() {
+            return this.createdTime;
+        }
+
+        public static class ReactionDataBuilder {
+            public ReactionDataBuilder reactionType(String reactionType) {
+                ReactionType known = ReactionType.of(reactionType);
+                this.type = known;
+                this.unknownType = known == null ? reactionType : null;
+                return this;
+            }
+        }
     }
 }
@@ -0,0 +1,56 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of request latencies, with buckets growing by {@value #GROWTH} so percentiles are accurate to
+ * about 10% from one millisecond up to several minutes.
+ */
+final class LatencyHistogram {
+    private static final double GROWTH = 1.1;
+    private static final double LOG_GROWTH = Math.log(GROWTH);
+    private static final int BUCKETS = 200;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+
+    void record(Duration latency) {
+        long millis = Math.max(1, latency.toMillis());
+        int bucket = Math.min(BUCKETS - 1, (int) Math.ceil(Math.log(millis) / LOG_GROWTH));
+
+        this.counts.incrementAndGet(bucket);
+        this.total.incrementAndGet();
+    }
+
+    long count() {
+        return this.total.get();
+    }
+
+    /**
+     * @param percentile between 0 (excluded) and 100
+     * @return the upper bound of the bucket holding the given percentile, or {@code null} when nothing was recorded
+     */
+    Duration percentile(double percentile) {
+        long total = this.total.get();
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += this.counts.get(bucket);
+            if (seen >= rank) {
+                return upperBound(bucket);
+            }
+        }
+
+        return upperBound(BUCKETS - 1);
+    }
+
+    private static Duration upperBound(int bucket) {
+        return Duration.ofMillis((long) Math.ceil(Math.pow(GROWTH, bucket)));
+    }
+}
@@ -0,0 +1,147 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Record/replay of the LinkedIn GET answers, for offline benchmarks and regression tests with real-shaped payloads.
+ * <p>
+ * It is only installed by the tests of the plugin through {@link #use(LinkedinCassette)}, never from a flow or the worker
+ * configuration: {@link Mode#RECORD} saves every answer, {@link Mode#REPLAY} answers from the recordings without any
+ * network call, optionally after a fixed latency.
+ * <p>
+ * A recording is the JSON body of one answer, in a file named after the API version and the path of the request; the
+ * base URL is not part of it, so recordings of the real API replay against any base URL. Authorization headers are never
+ * recorded and token-like fields of the bodies are masked. Replayed files are memory-mapped once and parsed straight
+ * from the mapping.
+ */
+final class LinkedinCassette {
+    private static final Pattern SECRETS = Pattern.compile(
+        "(\"(?:access_?token|refresh_?token|client_?secret|id_?token)\"\\s*:\\s*)\"[^\"]*\"",
+        Pattern.CASE_INSENSITIVE
+    );
+    private static final Map<Path, MappedByteBuffer> MAPPED = new ConcurrentHashMap<>();
+
+    private static volatile LinkedinCassette installed;
+
+    enum Mode {
+        RECORD,
+        REPLAY
+    }
+
+    private final Mode mode;
+    private final Path directory;
+    private final Duration latency;
+
+    LinkedinCassette(Mode mode, Path directory, Duration latency) {
+        this.mode = mode;
+        this.directory = directory;
+        this.latency = latency;
+    }
+
+    /**
+     * @return the installed cassette, or {@code null} when record/replay is off
+     */
+    static LinkedinCassette active() {
+        return installed;
+    }
+
+    /**
+     * Installs the cassette used by every LinkedIn GET request of the JVM; test hook, {@code null} to uninstall it.
+     */
+    static void use(LinkedinCassette cassette) {
+        installed = cassette;
+    }
+
+    boolean isReplaying() {
+        return this.mode == Mode.REPLAY;
+    }
+
+    JsonNode replay(String apiVersion, String pathAndQuery) throws IOException, InterruptedException {
+        Path file = this.file(apiVersion, pathAndQuery);
+
+        MappedByteBuffer mapped;
+        try {
+            mapped = MAPPED.computeIfAbsent(file, LinkedinCassette::map);
+        } catch (IllegalStateException e) {
+            if (e.getCause() instanceof NoSuchFileException) {
+                throw new IllegalStateException("No recorded answer for GET " + pathAndQuery + " in " + this.directory + ", record it first", e);
+            }
+            throw e;
+        }
+
+        if (!this.latency.isZero()) {
+            Thread.sleep(this.latency);
+        }
+
+        // each reader gets its own view of the shared mapping
+        return LinkedinJson.TREE_READER.readTree(new ByteBufferInputStream(mapped.duplicate()));
+    }
+
+    void record(String apiVersion, String pathAndQuery, byte[] body) throws IOException {
+        String scrubbed = SECRETS.matcher(new String(body, StandardCharsets.UTF_8)).replaceAll("$1\"****\"");
+
+        Files.createDirectories(this.directory);
+        Path file = this.file(apiVersion, pathAndQuery);
+        Path temp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+        Files.writeString(temp, scrubbed, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        MAPPED.remove(file);
+    }
+
+    Path file(String apiVersion, String pathAndQuery) {
+        return this.directory.resolve(LinkedinTokenPool.digest(apiVersion + " GET " + pathAndQuery) + ".json");
+    }
+
+    private static MappedByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to map the recording " + file, e);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int read = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kestra.core.http.client.HttpClientResponseException;
+
+/**
+ * Worker-wide circuit breaker of a LinkedIn endpoint, shared by every task and trigger calling it.
+ * <p>
+ * The breaker records the outcome of the last {@value #WINDOW_SIZE} calls and opens when at least half of them failed,
+ * with a minimum of {@value #MIN_CALLS} calls. While open, calls fail fast with an {@link OpenException} instead of
+ * tying up threads until timeout; after {@link #OPEN_DURATION} a single probe call is let through, closing the breaker
+ * on success or opening it again on failure. Calls started before the breaker opened are ignored when they complete, so
+ * they can't be mistaken for the probe.
+ * <p>
+ * Only outages count as failures: network errors and server errors (5xx). Client errors such as a missing post are
+ * answers from a healthy API, and throttling (429) is the quota of a single token, left to the token pool and the
+ * retries since the breaker is shared by every credential.
+ */
+final class LinkedinCircuitBreaker {
+    static final int WINDOW_SIZE = 20;
+    static final int MIN_CALLS = 10;
+    static final double FAILURE_RATE_THRESHOLD = 0.5;
+    static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private static final Map<String, LinkedinCircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final Duration openDuration;
+    // ring buffer of the last outcomes, true for a failure
+    private final boolean[] outcomes = new boolean[WINDOW_SIZE];
+    private int next;
+    private int calls;
+    private int failures;
+    private State state = State.CLOSED;
+    // bumped on every state change, so the outcome of a call started in an earlier state is ignored
+    private long generation;
+    private long openedAt;
+    private boolean probing;
+
+    LinkedinCircuitBreaker(String name, Duration openDuration) {
+        this.name = name;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * @return the breaker shared by all the calls to the endpoint of {@code pathAndQuery} on {@code baseUrl}
+     */
+    static LinkedinCircuitBreaker of(String baseUrl, String pathAndQuery) {
+        return BREAKERS.computeIfAbsent(baseUrl + endpoint(pathAndQuery), name -> new LinkedinCircuitBreaker(name, OPEN_DURATION));
+    }
+
+    /**
+     * @return the first path segment, e.g. {@code /reactions} for {@code /reactions/(entity:...)?q=entity}
+     */
+    static String endpoint(String pathAndQuery) {
+        int end = 1;
+        while (end < pathAndQuery.length() && "/?(".indexOf(pathAndQuery.charAt(end)) < 0) {
+            end++;
+        }
+
+        return pathAndQuery.substring(0, end);
+    }
+
+    <T> T call(Callable<T> call) throws Exception {
+        long generation = this.acquirePermission();
+
+        try {
+            T result = call.call();
+            this.record(generation, false);
+            return result;
+        } catch (Throwable e) {
+            this.record(generation, e instanceof Exception exception && isOutage(exception));
+            throw e;
+        }
+    }
+
+    synchronized State state() {
+        return this.state;
+    }
+
+    /**
+     * @return the generation the call is started in
+     */
+    private synchronized long acquirePermission() {
+        if (this.state == State.OPEN) {
+            long remaining = this.openDuration.toNanos() - (System.nanoTime() - this.openedAt);
+            if (remaining > 0) {
+                throw new OpenException(this.name, Duration.ofNanos(remaining));
+            }
+
+            this.transition(State.HALF_OPEN);
+        }
+
+        if (this.state == State.HALF_OPEN) {
+            if (this.probing) {
+                throw new OpenException(this.name, Duration.ZERO);
+            }
+            this.probing = true;
+        }
+
+        return this.generation;
+    }
+
+    private synchronized void record(long generation, boolean failure) {
+        if (generation != this.generation) {
+            // a call started before the last state change, e.g. before the breaker opened: only the probe decides
+            // whether a half-open breaker closes
+            return;
+        }
+
+        if (this.state == State.HALF_OPEN) {
+            this.probing = false;
+            if (failure) {
+                this.open();
+            } else {
+                this.transition(State.CLOSED);
+            }
+            return;
+        }
+
+        if (this.calls == WINDOW_SIZE && this.outcomes[this.next]) {
+            this.failures--;
+        }
+        this.outcomes[this.next] = failure;
+        this.next = (this.next + 1) % WINDOW_SIZE;
+        this.calls = Math.min(this.calls + 1, WINDOW_SIZE);
+        if (failure) {
+            this.failures++;
+        }
+
+        if (this.state == State.CLOSED && this.calls >= MIN_CALLS && this.failures >= this.calls * FAILURE_RATE_THRESHOLD) {
+            this.open();
+        }
+    }
+
+    private void open() {
+        this.transition(State.OPEN);
+        this.openedAt = System.nanoTime();
+    }
+
+    private void transition(State state) {
+        this.state = state;
+        this.generation++;
+        this.reset();
+    }
+
+    private void reset() {
+        Arrays.fill(this.outcomes, false);
+        this.next = 0;
+        this.calls = 0;
+        this.failures = 0;
+    }
+
+    static boolean isOutage(Exception e) {
+        if (e instanceof HttpClientResponseException responseException && responseException.getResponse() != null) {
+            int status = responseException.getResponse().getStatus().getCode();
+            return status >= 500;
+        }
+
+        return e instanceof IOException || e.getCause() instanceof IOException;
+    }
+
+    /**
+     * Thrown instead of calling an endpoint whose breaker is open.
+     */
+    static class OpenException extends RuntimeException {
+        OpenException(String endpoint, Duration retryIn) {
+            super("LinkedIn endpoint " + endpoint + " is failing, calls are suspended" + (retryIn.isZero() ? " while it is probed" : " for " + retryIn.toSeconds() + "s"));
+        }
+    }
+}
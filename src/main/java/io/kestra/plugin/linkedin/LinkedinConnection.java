@@ -0,0 +1,104 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.configurations.BearerAuthConfiguration;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+
+/**
+ * The credentials and request template of a run, rendered once from the {@link LinkedinConnectionInterface} properties;
+ * the token pool is built once and shared by the HTTP client and the template.
+ */
+final class LinkedinConnection {
+    static final Duration DEFAULT_COALESCING_TTL = Duration.ofSeconds(5);
+
+    private final LinkedinRequestTemplate template;
+    // null when the requests are authenticated by the template with a token of the pool
+    private final String accessToken;
+
+    private LinkedinConnection(LinkedinRequestTemplate template, String accessToken) {
+        this.template = template;
+        this.accessToken = accessToken;
+    }
+
+    /**
+     * @param apiVersion the LinkedIn-Version header, named differently by the tasks and the triggers
+     * @param maxWait how long the requests of the run may wait for a throttled token of the pool, e.g. the task timeout,
+     * {@code null} for no bound
+     */
+    static LinkedinConnection of(RunContext runContext, LinkedinConnectionInterface properties, Property<String> apiVersion, Property<Duration> maxWait) throws Exception {
+        LinkedinRequestTemplate template = LinkedinRequestTemplate.of(
+            runContext.render(properties.getApiBaseUrl()).as(String.class).orElse(LinkedinRequestTemplate.DEFAULT_BASE_URL),
+            runContext.render(apiVersion).as(String.class).orElse(LinkedinRequestTemplate.DEFAULT_API_VERSION)
+        );
+
+        if (runContext.render(properties.getCoalesceRequests()).as(Boolean.class).orElse(false)) {
+            template = template.withCoalescing(runContext.render(properties.getCoalescingTtl()).as(Duration.class).orElse(DEFAULT_COALESCING_TTL));
+        }
+
+        LinkedinTokenPool tokenPool = tokenPool(runContext, properties, runContext.render(maxWait).as(Duration.class).orElse(null));
+        if (tokenPool != null) {
+            return new LinkedinConnection(template.withTokenPool(tokenPool), null);
+        }
+
+        String rAccessToken = runContext.render(properties.getAccessToken()).as(String.class).orElse(null);
+        if (rAccessToken == null) {
+            throw new IllegalArgumentException("Either accessToken or accessTokens is required");
+        }
+
+        return new LinkedinConnection(template.withAccessToken(rAccessToken), rAccessToken);
+    }
+
+    /**
+     * @return the pool of {@code accessTokens}, or {@code null} when a single {@code accessToken} is used
+     */
+    private static LinkedinTokenPool tokenPool(RunContext runContext, LinkedinConnectionInterface properties, Duration maxWait) throws Exception {
+        if (properties.getAccessTokens() == null) {
+            return null;
+        }
+
+        List<String> rAccessTokens = runContext.render(properties.getAccessTokens()).asList(String.class);
+        if (rAccessTokens.isEmpty()) {
+            return null;
+        }
+        if (properties.getAccessToken() != null) {
+            throw new IllegalArgumentException("accessToken and accessTokens are exclusive, set only one of them");
+        }
+
+        return LinkedinTokenPool.of(rAccessTokens, maxWait);
+    }
+
+    /**
+     * Reuse the template for all the requests of the run.
+     */
+    LinkedinRequestTemplate template() {
+        return this.template;
+    }
+
+    HttpClient httpClient(RunContext runContext) throws Exception {
+        if (this.accessToken == null) {
+            // each request is authenticated by the request template with a token of the pool
+            return HttpClient.builder()
+                .runContext(runContext)
+                .configuration(LinkedinRequestTemplate.DEFAULT_HTTP_CONFIGURATION)
+                .build();
+        }
+
+        HttpConfiguration httpConfiguration = HttpConfiguration.builder()
+            .auth(
+                BearerAuthConfiguration.builder()
+                    .token(Property.ofValue(this.accessToken))
+                    .build()
+            )
+            .build();
+
+        return HttpClient.builder()
+            .runContext(runContext)
+            .configuration(httpConfiguration)
+            .build();
+    }
+}
@@ -0,0 +1,22 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.kestra.core.models.property.Property;
+
+/**
+ * Connection properties shared by the LinkedIn tasks and triggers, rendered once per run into a {@link LinkedinConnection};
+ * the properties are declared and documented on the fields of {@link AbstractLinkedinTask} and {@link AbstractCommentTrigger}.
+ */
+public interface LinkedinConnectionInterface {
+    Property<String> getAccessToken();
+
+    Property<List<String>> getAccessTokens();
+
+    Property<String> getApiBaseUrl();
+
+    Property<Boolean> getCoalesceRequests();
+
+    Property<Duration> getCoalescingTtl();
+}
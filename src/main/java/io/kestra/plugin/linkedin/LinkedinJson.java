@@ -0,0 +1,36 @@
+package io.kestra.plugin.linkedin;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Readers of the LinkedIn responses, configured once per classloader on first use and shared by all the runs of the
+ * worker; {@link ObjectReader}s are immutable, so they are safe to share between threads.
+ */
+final class LinkedinJson {
+    /**
+     * Tree reader of the paginated reactions, comments and statistics responses, which are walked element by element.
+     */
+    static final ObjectReader TREE_READER = JacksonMapper.ofJson().readerFor(JsonNode.class);
+
+    /**
+     * Reader of the elements returned as is, e.g. the lifetime statistics, bound from their tree to plain maps.
+     */
+    static final ObjectReader MAP_READER = JacksonMapper.ofJson().readerFor(new TypeReference<Map<String, Object>>() {});
+
+    /**
+     * Reader of the OAuth2 token responses, bound straight to {@link OAuth2.TokenResponse} without building a tree.
+     */
+    static final ObjectReader TOKEN_READER = JacksonMapper.ofJson()
+        .readerFor(OAuth2.TokenResponse.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private LinkedinJson() {
+    }
+}
@@ -0,0 +1,65 @@
+package io.kestra.plugin.linkedin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minimal blocking rate limiter spacing out request starts to a maximum number of requests per second.
+ * <p>
+ * Shared by all the concurrent requests of a run, so parallel traversals stay under the LinkedIn throttling budget.
+ */
+final class LinkedinRateLimiter {
+    private final long intervalNanos;
+    private long nextFreeSlot;
+
+    LinkedinRateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Requests per second must be strictly positive, got " + permitsPerSecond);
+        }
+
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.nextFreeSlot = System.nanoTime();
+    }
+
+    /**
+     * Blocks until the caller is allowed to send its request.
+     */
+    void acquire() throws InterruptedException {
+        long waitNanos = this.reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Blocks until a permit is available, without taking it, so the caller can choose what to spend it on.
+     */
+    void awaitPermit() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            waitNanos = this.nextFreeSlot - System.nanoTime();
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Takes a permit without waiting, returns {@code false} if none is available right now.
+     */
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        if (this.nextFreeSlot - now > 0) {
+            return false;
+        }
+
+        this.nextFreeSlot = now + this.intervalNanos;
+        return true;
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        long slot = Math.max(this.nextFreeSlot, now);
+        this.nextFreeSlot = slot + this.intervalNanos;
+        return slot - now;
+    }
+}
@@ -0,0 +1,98 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Worker-wide registry of the LinkedIn GET requests in flight, shared by every task and trigger.
+ * <p>
+ * Identical concurrent requests, with the same URL, API version and credentials, share a single network call and its
+ * parsed answer. The answer is then kept for a short time, so requests sent right after it by other executions are
+ * answered from memory too. Failures are not kept: the next request retries. A follower waits at most
+ * {@link #FOLLOWER_TIMEOUT} on the leader, and sends its own request if the leader was interrupted.
+ * <p>
+ * The shared answer is kept untouched: the leader and each follower get their own copy of it, so an execution modifying
+ * its {@link JsonNode} can't change what the others read.
+ */
+final class LinkedinRequestCoalescer {
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final int SWEEP_EVERY = 256;
+    // bounds the wait on a leader stuck in its request, after which a follower sends its own
+    static final Duration FOLLOWER_TIMEOUT = Duration.ofMinutes(1);
+    private static final AtomicInteger CALLS = new AtomicInteger();
+
+    private LinkedinRequestCoalescer() {
+    }
+
+    /**
+     * @param key identity of the request
+     * @param ttl how long a completed answer is reused, {@link Duration#ZERO} to only share requests in flight
+     */
+    static JsonNode fetch(String key, Duration ttl, Callable<JsonNode> call) throws Exception {
+        while (true) {
+            long now = System.nanoTime();
+            if (CALLS.incrementAndGet() % SWEEP_EVERY == 0) {
+                ENTRIES.values().removeIf(entry -> entry.isExpired(now));
+            }
+
+            Entry candidate = new Entry();
+            Entry entry = ENTRIES.compute(key, (k, existing) -> existing != null && !existing.isExpired(now) ? existing : candidate);
+
+            if (entry == candidate) {
+                return lead(key, ttl, call, entry);
+            }
+
+            try {
+                return entry.result.get(FOLLOWER_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS).deepCopy();
+            } catch (CancellationException e) {
+                // the leader was interrupted, which is not a failure of this request: try again, possibly as the leader
+            } catch (TimeoutException e) {
+                // the leader is stuck, stop waiting on it
+                return call.call();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+    }
+
+    private static JsonNode lead(String key, Duration ttl, Callable<JsonNode> call, Entry entry) throws Exception {
+        try {
+            JsonNode result = call.call();
+            entry.expiresAt = System.nanoTime() + ttl.toNanos();
+            entry.result.complete(result.deepCopy());
+            if (ttl.isZero()) {
+                ENTRIES.remove(key, entry);
+            }
+            return result;
+        } catch (Throwable e) {
+            // whatever the failure, even an Error, the entry must not stay in flight forever
+            ENTRIES.remove(key, entry);
+            if (e instanceof InterruptedException || Thread.currentThread().isInterrupted()) {
+                entry.result.cancel(false);
+            } else {
+                entry.result.completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<JsonNode> result = new CompletableFuture<>();
+        // in flight until completed
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private boolean isExpired(long now) {
+            return this.expiresAt != Long.MAX_VALUE && this.expiresAt - now <= 0;
+        }
+    }
+}
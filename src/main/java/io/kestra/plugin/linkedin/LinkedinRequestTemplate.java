@@ -0,0 +1,395 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import io.kestra.core.http.HttpRequest;
+import io.kestra.core.http.HttpResponse;
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import lombok.Getter;
+
+/**
+ * Rendered and validated connection settings shared by all the LinkedIn REST calls of a run.
+ * <p>
+ * The base URL and API version are rendered and validated once when the template is created, then every request of the
+ * run is derived from it, so the per-URN work is reduced to building the path.
+ */
+@Getter
+final class LinkedinRequestTemplate {
+    static final String DEFAULT_BASE_URL = "https://api.linkedin.com/rest";
+    static final String DEFAULT_API_VERSION = "202509";
+    static final String RESTLI_PROTOCOL_VERSION = "2.0.0";
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    /**
+     * Configuration of the HTTP clients whose requests are authenticated by the template; immutable, so shared by all
+     * the runs.
+     */
+    static final HttpConfiguration DEFAULT_HTTP_CONFIGURATION = HttpConfiguration.builder().build();
+
+    private static final int MAX_SHARED_TEMPLATES = 64;
+    private static final Map<String, LinkedinRequestTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String baseUrl;
+    private final String apiVersion;
+    private final LinkedinTokenPool tokenPool;
+    // digest of the credentials, the identity of the caller for request coalescing
+    private final String credential;
+    private final Duration coalescingTtl;
+
+    private LinkedinRequestTemplate(String baseUrl, String apiVersion, LinkedinTokenPool tokenPool, String credential, Duration coalescingTtl) {
+        this.baseUrl = baseUrl;
+        this.apiVersion = apiVersion;
+        this.tokenPool = tokenPool;
+        this.credential = credential;
+        this.coalescingTtl = coalescingTtl;
+    }
+
+    static LinkedinRequestTemplate of(String baseUrl, String apiVersion) {
+        String rBaseUrl = baseUrl != null ? baseUrl : DEFAULT_BASE_URL;
+        String rApiVersion = apiVersion != null ? apiVersion : DEFAULT_API_VERSION;
+
+        // flows target a handful of base URL and version pairs, their validated templates are shared by all the runs
+        String key = rBaseUrl + " " + rApiVersion;
+        LinkedinRequestTemplate cached = TEMPLATES.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String validatedBaseUrl = AbstractLinkedinTask.validateLinkedinHost(rBaseUrl);
+        LinkedinRequestTemplate template = new LinkedinRequestTemplate(
+            validatedBaseUrl.endsWith("/") ? validatedBaseUrl.substring(0, validatedBaseUrl.length() - 1) : validatedBaseUrl,
+            rApiVersion,
+            null,
+            null,
+            null
+        );
+
+        if (TEMPLATES.size() < MAX_SHARED_TEMPLATES) {
+            TEMPLATES.putIfAbsent(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * @return a template authenticating each request with a token of the pool, for HTTP clients without authentication
+     */
+    LinkedinRequestTemplate withTokenPool(LinkedinTokenPool tokenPool) {
+        return new LinkedinRequestTemplate(this.baseUrl, this.apiVersion, tokenPool, tokenPool.identity(), this.coalescingTtl);
+    }
+
+    /**
+     * @return a template identifying its caller by the access token the HTTP client authenticates with
+     */
+    LinkedinRequestTemplate withAccessToken(String accessToken) {
+        return new LinkedinRequestTemplate(this.baseUrl, this.apiVersion, this.tokenPool, LinkedinTokenPool.digest(accessToken), this.coalescingTtl);
+    }
+
+    /**
+     * @param coalescingTtl how long the answer of a GET request is shared with identical requests, {@code null} to never
+     * share requests; only effective once the caller is identified by its credentials
+     */
+    LinkedinRequestTemplate withCoalescing(Duration coalescingTtl) {
+        return new LinkedinRequestTemplate(this.baseUrl, this.apiVersion, this.tokenPool, this.credential, coalescingTtl);
+    }
+
+    /**
+     * @param pathAndQuery already encoded path and query, relative to the base URL, starting with {@code /}
+     */
+    URI uri(String pathAndQuery) {
+        return URI.create(this.baseUrl + pathAndQuery);
+    }
+
+    HttpRequest get(String pathAndQuery) {
+        return this.request("GET", pathAndQuery, null, null, false);
+    }
+
+    HttpRequest post(String pathAndQuery, Object jsonBody) {
+        return this.request("POST", pathAndQuery, jsonBody, null, false);
+    }
+
+    private HttpRequest request(String method, String pathAndQuery, Object jsonBody, String accessToken, boolean compressed) {
+        HttpRequest.HttpRequestBuilder builder = HttpRequest.builder()
+            .uri(this.uri(pathAndQuery))
+            .method(method)
+            .addHeader("LinkedIn-Version", this.apiVersion)
+            .addHeader("X-Restli-Protocol-Version", RESTLI_PROTOCOL_VERSION);
+
+        if (compressed) {
+            builder.addHeader("Accept-Encoding", ACCEPT_ENCODING);
+        }
+
+        if (jsonBody != null) {
+            builder.body(HttpRequest.JsonRequestBody.builder().content(jsonBody).build());
+        }
+
+        if (accessToken != null) {
+            builder.addHeader("Authorization", "Bearer " + accessToken);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Sends a request with an optional JSON body through the worker-wide circuit breaker of its endpoint, accepting a
+     * gzip or deflate compressed answer.
+     *
+     * @throws LinkedinCircuitBreaker.OpenException when the endpoint is failing and calls are suspended
+     */
+    Response send(HttpClient httpClient, String method, String pathAndQuery, Object jsonBody) throws Exception {
+        return this.send(httpClient, method, pathAndQuery, jsonBody, true);
+    }
+
+    /**
+     * Sends a request that must not be replayed, e.g. one publishing a post: LinkedIn may have applied it before answering
+     * 401 or 429, so unlike {@link #send(HttpClient, String, String, Object)} it is never retried with another token.
+     *
+     * @throws LinkedinCircuitBreaker.OpenException when the endpoint is failing and calls are suspended
+     */
+    Response sendOnce(HttpClient httpClient, String method, String pathAndQuery, Object jsonBody) throws Exception {
+        return this.send(httpClient, method, pathAndQuery, jsonBody, false);
+    }
+
+    private Response send(HttpClient httpClient, String method, String pathAndQuery, Object jsonBody, boolean retry) throws Exception {
+        LinkedinCircuitBreaker circuitBreaker = LinkedinCircuitBreaker.of(this.baseUrl, pathAndQuery);
+
+        return this.withToken(retry, accessToken -> this.traced(method, pathAndQuery, span -> {
+            HttpRequest request = this.request(method, pathAndQuery, jsonBody, accessToken, true);
+            return circuitBreaker.call(() -> receive(httpClient, request, span));
+        }));
+    }
+
+    /**
+     * Sends a request and reads its decompressed body as a {@code String}; meant for the small answers of POST requests,
+     * the request should carry an {@code Accept-Encoding: gzip, deflate} header.
+     */
+    static Response receive(HttpClient httpClient, HttpRequest request, Span span) throws Exception {
+        AtomicReference<Response> received = new AtomicReference<>();
+        httpClient.request(request, response -> {
+            span.setAttribute(LinkedinTracing.HTTP_STATUS, (long) response.getStatus().getCode());
+
+            String body = null;
+            if (response.getBody() != null) {
+                LinkedinTracing.CountingInputStream wire = new LinkedinTracing.CountingInputStream(response.getBody());
+                try (InputStream decoded = decode(wire, response.getHeaders().firstValue("Content-Encoding").orElse(null))) {
+                    body = new String(decoded.readAllBytes(), StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                span.setAttribute(LinkedinTracing.RESPONSE_BYTES, wire.count());
+            }
+
+            received.set(new Response(response.getStatus().getCode(), response.getHeaders(), body));
+        });
+        return received.get();
+    }
+
+    /**
+     * Sends a GET request accepting a gzip or deflate compressed answer, and parses the JSON body straight from the
+     * decompressed response stream, without materializing it as a {@code String}.
+     * <p>
+     * With coalescing enabled, identical concurrent requests of the worker share one call, see {@link LinkedinRequestCoalescer}.
+     *
+     * @throws LinkedinCircuitBreaker.OpenException when the endpoint is failing and calls are suspended
+     */
+    JsonNode fetchJson(HttpClient httpClient, String pathAndQuery) throws Exception {
+        if (this.coalescingTtl == null || this.credential == null) {
+            return this.fetchJsonUncoalesced(httpClient, pathAndQuery);
+        }
+
+        return LinkedinRequestCoalescer.fetch(
+            this.baseUrl + pathAndQuery + "|" + this.apiVersion + "|" + this.credential,
+            this.coalescingTtl,
+            () -> this.fetchJsonUncoalesced(httpClient, pathAndQuery)
+        );
+    }
+
+    private JsonNode fetchJsonUncoalesced(HttpClient httpClient, String pathAndQuery) throws Exception {
+        LinkedinCassette cassette = LinkedinCassette.active();
+        if (cassette != null && cassette.isReplaying()) {
+            return cassette.replay(this.apiVersion, pathAndQuery);
+        }
+
+        LinkedinCircuitBreaker circuitBreaker = LinkedinCircuitBreaker.of(this.baseUrl, pathAndQuery);
+
+        return this.withToken(true, accessToken -> this.traced("GET", pathAndQuery, span -> {
+            HttpRequest request = this.request("GET", pathAndQuery, null, accessToken, true);
+
+            return circuitBreaker.call(() -> {
+                AtomicReference<JsonNode> json = new AtomicReference<>(MissingNode.getInstance());
+                httpClient.request(request, response -> {
+                    span.setAttribute(LinkedinTracing.HTTP_STATUS, (long) response.getStatus().getCode());
+                    if (response.getBody() == null) {
+                        return;
+                    }
+
+                    LinkedinTracing.CountingInputStream wire = new LinkedinTracing.CountingInputStream(response.getBody());
+                    try (InputStream body = decode(wire, response.getHeaders().firstValue("Content-Encoding").orElse(null))) {
+                        json.set(this.parse(body, cassette, pathAndQuery));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    span.setAttribute(LinkedinTracing.RESPONSE_BYTES, wire.count());
+                });
+                return json.get();
+            });
+        }));
+    }
+
+    private JsonNode parse(InputStream body, LinkedinCassette cassette, String pathAndQuery) throws IOException {
+        try {
+            return LinkedinTracing.inSpan("linkedin.parse_json", span -> {
+                LinkedinTracing.CountingInputStream decoded = new LinkedinTracing.CountingInputStream(body);
+                JsonNode json;
+                if (cassette != null) {
+                    byte[] bytes = decoded.readAllBytes();
+                    cassette.record(this.apiVersion, pathAndQuery, bytes);
+                    json = LinkedinJson.TREE_READER.readTree(bytes);
+                } else {
+                    json = LinkedinJson.TREE_READER.readTree(decoded);
+                }
+
+                span.setAttribute(LinkedinTracing.RESPONSE_BYTES, decoded.count());
+                span.setAttribute(LinkedinTracing.ELEMENTS, (long) json.path("elements").size());
+                return json;
+            });
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Runs one attempt of a request in a client span, recording its status even when it fails.
+     */
+    private <T> T traced(String method, String pathAndQuery, LinkedinTracing.SpanCall<T> call) throws Exception {
+        return LinkedinTracing.inSpan("linkedin " + method, SpanKind.CLIENT, span -> {
+            int query = pathAndQuery.indexOf('?');
+            span.setAttribute(LinkedinTracing.HTTP_METHOD, method);
+            span.setAttribute(LinkedinTracing.URL_PATH, query >= 0 ? pathAndQuery.substring(0, query) : pathAndQuery);
+
+            try {
+                return call.call(span);
+            } catch (HttpClientResponseException e) {
+                if (e.getResponse() != null) {
+                    span.setAttribute(LinkedinTracing.HTTP_STATUS, (long) e.getResponse().getStatus().getCode());
+                }
+                throw e;
+            }
+        });
+    }
+
+    static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "", "identity" -> body;
+            case "gzip", "x-gzip" -> new GZIPInputStream(body, 8192);
+            case "deflate" -> inflate(body);
+            default -> throw new IOException("Unsupported response content encoding '" + contentEncoding + "'");
+        };
+    }
+
+    /**
+     * HTTP deflate is meant to be zlib-wrapped, but some servers send raw deflate data; the zlib header is recognized
+     * by its checksum.
+     */
+    private static InputStream inflate(InputStream body) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(body, 8192);
+        buffered.mark(2);
+        int cmf = buffered.read();
+        int flg = buffered.read();
+        buffered.reset();
+
+        boolean zlib = cmf >= 0 && flg >= 0 && (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+        Inflater inflater = new Inflater(!zlib);
+        return new InflaterInputStream(buffered, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Uploads a media binary to an upload URL returned by LinkedIn. Upload URLs are outside the REST base URL, so they
+     * are checked against the allowed hosts and not counted by the circuit breakers. A streamed body can only be sent
+     * once, so an upload is never retried with another token.
+     */
+    HttpResponse<String> upload(HttpClient httpClient, String uploadUrl, HttpRequest.RequestBody body) throws Exception {
+        URI uri = URI.create(AbstractLinkedinTask.validateLinkedinHost(uploadUrl));
+
+        return this.withToken(false, accessToken -> {
+            HttpRequest.HttpRequestBuilder builder = HttpRequest.builder()
+                .uri(uri)
+                .method("PUT")
+                .body(body);
+
+            if (accessToken != null) {
+                builder.addHeader("Authorization", "Bearer " + accessToken);
+            }
+
+            return httpClient.request(builder.build(), String.class);
+        });
+    }
+
+    private <T> T withToken(boolean retry, TokenCall<T> call) throws Exception {
+        if (this.tokenPool == null) {
+            return call.send(null);
+        }
+
+        // a revoked or throttled token is retried with the next one, trying each token at most once
+        for (int attempt = 1; ; attempt++) {
+            LinkedinTokenPool.Token token = this.tokenPool.acquire();
+
+            try {
+                T response = call.send(token.value());
+                this.tokenPool.release(token, null);
+                return response;
+            } catch (Exception e) {
+                if (!this.tokenPool.release(token, e) || !retry || attempt >= this.tokenPool.size()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * A decompressed answer, its body materialized as it is small.
+     */
+    record Response(int status, HttpHeaders headers, String body) {
+    }
+
+    @FunctionalInterface
+    private interface TokenCall<T> {
+        T send(String accessToken) throws Exception;
+    }
+}
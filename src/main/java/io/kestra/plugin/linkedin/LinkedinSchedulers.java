@@ -0,0 +1,26 @@
+package io.kestra.plugin.linkedin;
+
+import java.util.concurrent.Executors;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Worker-wide scheduler for the blocking LinkedIn calls of the fetch pipelines.
+ * <p>
+ * Each call runs on its own virtual thread: a thread blocked on the network only holds a small heap object, so the
+ * number of requests in flight is bounded by the {@code concurrency} of each pipeline and not by a thread pool size.
+ */
+final class LinkedinSchedulers {
+    private static final Scheduler REQUESTS = Schedulers.fromExecutorService(
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("linkedin-request-", 0).factory()),
+        "linkedin-requests"
+    );
+
+    private LinkedinSchedulers() {
+    }
+
+    static Scheduler requests() {
+        return REQUESTS;
+    }
+}
@@ -0,0 +1,285 @@
+package io.kestra.plugin.linkedin;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kestra.core.http.client.HttpClientResponseException;
+
+/**
+ * Spreads requests across several access tokens, e.g. of different LinkedIn apps, so the throughput scales with the
+ * number of throttling budgets.
+ * <p>
+ * Each request takes the healthy token with the fewest requests in flight, then the one sent the fewest requests over
+ * the last minute. A token answered with 401 or 429 is left out of the rotation for a while; the health and request
+ * rate of a token are tracked worker-wide, so every task and trigger using it knows it is throttled. When every token is
+ * cooling down, a request waits for the first throttled one to be available again, within the maximum wait of the pool;
+ * tokens answered with 401 are never waited for, as they are unlikely to recover by themselves.
+ * <p>
+ * The state of a token is forgotten once it has been idle for {@link #STATE_TTL}, so the registry doesn't grow with
+ * every token rendered by the worker.
+ */
+final class LinkedinTokenPool {
+    static final Duration UNAUTHORIZED_COOLDOWN = Duration.ofMinutes(10);
+    static final Duration THROTTLED_COOLDOWN = Duration.ofMinutes(1);
+    static final Duration STATE_TTL = Duration.ofHours(1);
+    static final Duration RATE_WINDOW = Duration.ofMinutes(1);
+
+    // idle states are looked for at most once per sweep interval, when pools are created
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+    private static final AtomicLong LAST_SWEEP = new AtomicLong(System.nanoTime());
+
+    // keyed by token digest, so the tokens themselves are not retained by the registry
+    private static final Map<String, TokenState> STATES = new ConcurrentHashMap<>();
+
+    private final List<Token> tokens;
+    // deadline of the waits for a throttled token, null to wait as long as needed
+    private final Long waitDeadline;
+
+    private LinkedinTokenPool(List<Token> tokens, Long waitDeadline) {
+        this.tokens = tokens;
+        this.waitDeadline = waitDeadline;
+    }
+
+    static LinkedinTokenPool of(List<String> accessTokens) {
+        return of(accessTokens, null);
+    }
+
+    /**
+     * @param maxWait how long, from now, requests may wait for a throttled token, e.g. the task timeout; {@code null}
+     * to wait as long as the cooldown lasts
+     */
+    static LinkedinTokenPool of(List<String> accessTokens, Duration maxWait) {
+        if (accessTokens == null || accessTokens.isEmpty()) {
+            throw new IllegalArgumentException("The access tokens pool can't be empty");
+        }
+
+        long now = System.nanoTime();
+        sweep(now);
+
+        return new LinkedinTokenPool(
+            accessTokens.stream()
+                .distinct()
+                .map(token -> {
+                    TokenState state = STATES.computeIfAbsent(digest(token), key -> new TokenState());
+                    state.lastUsed().set(now);
+                    return new Token(token, state);
+                })
+                .toList(),
+            maxWait != null ? now + maxWait.toNanos() : null
+        );
+    }
+
+    /**
+     * Forgets the tokens idle for longer than {@link #STATE_TTL}; a pool still holding one keeps using its state.
+     */
+    static void sweep(long now) {
+        long lastSweep = LAST_SWEEP.get();
+        if (now - lastSweep < SWEEP_INTERVAL_NANOS || !LAST_SWEEP.compareAndSet(lastSweep, now)) {
+            return;
+        }
+
+        STATES.values().removeIf(state -> state.isIdle(now));
+    }
+
+    static int trackedTokens() {
+        return STATES.size();
+    }
+
+    /**
+     * @return a digest of all the tokens of the pool, whatever their order
+     */
+    String identity() {
+        return digest(String.join(",", this.tokens.stream().map(token -> digest(token.value())).sorted().toList()));
+    }
+
+    int size() {
+        return this.tokens.size();
+    }
+
+    /**
+     * Takes the healthy token with the fewest requests in flight or, if all of them are cooling down, waits for the
+     * throttled one available first. The token must be given back with {@link #release(Token, Exception)}.
+     *
+     * @throws IllegalStateException if every token was rejected as unauthorized, or is throttled past the maximum wait
+     */
+    Token acquire() throws InterruptedException {
+        while (true) {
+            long now = System.nanoTime();
+            Token best = null;
+
+            for (Token token : this.tokens) {
+                if (best == null || isBetter(token, best, now)) {
+                    best = token;
+                }
+            }
+
+            if (best.state().availableAt().get() - now <= 0) {
+                best.state().inFlight().incrementAndGet();
+                best.state().lastUsed().set(now);
+                best.state().rate().record(now);
+                return best;
+            }
+
+            long availableAt = this.firstThrottledAvailability();
+            if (this.waitDeadline != null && availableAt - this.waitDeadline > 0) {
+                throw new IllegalStateException("All the access tokens of the pool are throttled by LinkedIn for another " +
+                    Duration.ofNanos(availableAt - now).toSeconds() + "s, past the maximum wait of the run");
+            }
+
+            TimeUnit.NANOSECONDS.sleep(availableAt - now);
+        }
+    }
+
+    /**
+     * @return when the first throttled token is available again
+     * @throws IllegalStateException if all the tokens cooling down were rejected as unauthorized
+     */
+    private long firstThrottledAvailability() {
+        Long first = null;
+        for (Token token : this.tokens) {
+            if (!token.state().unauthorized().get() && (first == null || token.state().availableAt().get() - first < 0)) {
+                first = token.state().availableAt().get();
+            }
+        }
+
+        if (first == null) {
+            throw new IllegalStateException("All the access tokens of the pool were rejected by LinkedIn with 401 Unauthorized, " +
+                "check that they are valid and not revoked");
+        }
+        return first;
+    }
+
+    /**
+     * @param error the error of the request, {@code null} if it succeeded
+     * @return {@code true} if the token was put in cooldown and the request may be retried with another token
+     */
+    boolean release(Token token, Exception error) {
+        token.state().inFlight().decrementAndGet();
+
+        Optional<Duration> cooldown = cooldown(error);
+        cooldown.ifPresent(duration -> this.coolDown(token, duration, UNAUTHORIZED_COOLDOWN.equals(duration)));
+
+        return cooldown.isPresent();
+    }
+
+    void coolDown(Token token, Duration duration, boolean unauthorized) {
+        token.state().unauthorized().set(unauthorized);
+        token.state().availableAt().set(System.nanoTime() + duration.toNanos());
+    }
+
+    boolean isAvailable(Token token) {
+        return token.state().availableAt().get() - System.nanoTime() <= 0;
+    }
+
+    private boolean isBetter(Token candidate, Token best, long now) {
+        boolean candidateAvailable = candidate.state().availableAt().get() - now <= 0;
+        boolean bestAvailable = best.state().availableAt().get() - now <= 0;
+        if (candidateAvailable != bestAvailable) {
+            return candidateAvailable;
+        }
+
+        if (!candidateAvailable) {
+            return candidate.state().availableAt().get() - best.state().availableAt().get() < 0;
+        }
+
+        int candidateInFlight = candidate.state().inFlight().get();
+        int bestInFlight = best.state().inFlight().get();
+        if (candidateInFlight != bestInFlight) {
+            return candidateInFlight < bestInFlight;
+        }
+
+        return candidate.state().rate().perWindow(now) < best.state().rate().perWindow(now);
+    }
+
+    /**
+     * @return the estimated number of requests sent with the token over the last {@link #RATE_WINDOW}
+     */
+    double requestRate(Token token) {
+        return token.state().rate().perWindow(System.nanoTime());
+    }
+
+    static Optional<Duration> cooldown(Exception error) {
+        if (!(error instanceof HttpClientResponseException responseException) || responseException.getResponse() == null) {
+            return Optional.empty();
+        }
+
+        return switch (responseException.getResponse().getStatus().getCode()) {
+            case 401 -> Optional.of(UNAUTHORIZED_COOLDOWN);
+            case 429 -> Optional.of(THROTTLED_COOLDOWN);
+            default -> Optional.empty();
+        };
+    }
+
+    static String digest(String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record Token(String value, TokenState state) {
+        @Override
+        public String toString() {
+            return "Token[****]";
+        }
+    }
+
+    /**
+     * @param unauthorized whether the last cooldown of the token follows a 401 answer
+     */
+    record TokenState(AtomicInteger inFlight, AtomicLong availableAt, AtomicBoolean unauthorized, AtomicLong lastUsed, RequestRate rate) {
+        TokenState() {
+            this(new AtomicInteger(), new AtomicLong(System.nanoTime()), new AtomicBoolean(), new AtomicLong(System.nanoTime()), new RequestRate());
+        }
+
+        boolean isIdle(long now) {
+            return this.inFlight.get() == 0
+                && this.availableAt.get() - now <= 0
+                && now - this.lastUsed.get() > STATE_TTL.toNanos();
+        }
+    }
+
+    /**
+     * Sliding estimate of the requests sent over the last {@link #RATE_WINDOW}, from the counts of the current and the
+     * previous fixed windows.
+     */
+    static final class RequestRate {
+        private long windowStart = System.nanoTime();
+        private int current;
+        private int previous;
+
+        synchronized void record(long now) {
+            this.roll(now);
+            this.current++;
+        }
+
+        synchronized double perWindow(long now) {
+            this.roll(now);
+            double previousWeight = 1 - (double) (now - this.windowStart) / RATE_WINDOW.toNanos();
+            return this.current + this.previous * Math.max(0, previousWeight);
+        }
+
+        private void roll(long now) {
+            long elapsedWindows = (now - this.windowStart) / RATE_WINDOW.toNanos();
+            if (elapsedWindows <= 0) {
+                return;
+            }
+
+            this.previous = elapsedWindows == 1 ? this.current : 0;
+            this.current = 0;
+            this.windowStart += elapsedWindows * RATE_WINDOW.toNanos();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Callable;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+/**
+ * OpenTelemetry spans of the LinkedIn calls, so a slow execution can be broken down into posts, HTTP requests and JSON
+ * parsing.
+ * <p>
+ * Spans go through {@link GlobalOpenTelemetry}, so they are exported with the tracing configuration of the Kestra
+ * worker, nested under its task run span. When tracing is disabled the spans are no-ops.
+ */
+final class LinkedinTracing {
+    static final String INSTRUMENTATION_SCOPE = "io.kestra.plugin.linkedin";
+
+    static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.request.method");
+    static final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.response.status_code");
+    static final AttributeKey<Long> RESPONSE_BYTES = AttributeKey.longKey("http.response.body.size");
+    static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+    static final AttributeKey<String> URN = AttributeKey.stringKey("linkedin.urn");
+    static final AttributeKey<Long> PAGE = AttributeKey.longKey("linkedin.page");
+    static final AttributeKey<Long> ELEMENTS = AttributeKey.longKey("linkedin.elements.count");
+    static final AttributeKey<Long> RECORDS = AttributeKey.longKey("linkedin.records.count");
+
+    private LinkedinTracing() {
+    }
+
+    static Tracer tracer() {
+        return GlobalOpenTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    static <T> T inSpan(String name, SpanCall<T> call) throws Exception {
+        return inSpan(name, SpanKind.INTERNAL, call);
+    }
+
+    /**
+     * Runs {@code call} in a new span, current for its duration; the span is marked as failed if the call throws.
+     */
+    static <T> T inSpan(String name, SpanKind kind, SpanCall<T> call) throws Exception {
+        Span span = tracer().spanBuilder(name).setSpanKind(kind).startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return call.call(span);
+        } catch (Exception e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Binds {@code callable} to the current span, for the work handed over to the request threads.
+     */
+    static <T> Callable<T> wrap(Callable<T> callable) {
+        return Context.current().wrap(callable);
+    }
+
+    @FunctionalInterface
+    interface SpanCall<T> {
+        T call(Span span) throws Exception;
+    }
+
+    /**
+     * Counts the bytes read from a response body.
+     */
+    static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return this.count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                this.count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                this.count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            this.count += skipped;
+            return skipped;
+        }
+    }
+}
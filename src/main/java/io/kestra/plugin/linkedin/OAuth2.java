@@ -3,23 +3,20 @@ package io.kestra.plugin.linkedin;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import io.kestra.core.http.HttpRequest;
-import io.kestra.core.http.HttpResponse;
 import io.kestra.core.http.client.HttpClient;
-import io.kestra.core.http.client.configurations.HttpConfiguration;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
-import io.kestra.core.serializers.JacksonMapper;
 
+import io.opentelemetry.api.trace.SpanKind;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -55,6 +52,9 @@ import io.kestra.core.models.annotations.PluginProperty;
     }
 )
 public class OAuth2 extends Task implements RunnableTask<OAuth2.Output> {
+    static final String DEFAULT_TOKEN_URL = "https://www.linkedin.com/oauth/v2/accessToken";
+    private static final String GRANT_TYPE = "refresh_token";
+
     @Schema(title = "OAuth2 Client ID", description = "OAuth2 client ID from LinkedIn Developer Portal")
     @NotNull
     @PluginProperty(group = "main")
@@ -75,7 +75,7 @@ public class OAuth2 extends Task implements RunnableTask<OAuth2.Output> {
     @Schema(title = "Token endpoint URL", description = "LinkedIn OAuth2 token endpoint; defaults to `https://www.linkedin.com/oauth/v2/accessToken`")
     @Builder.Default
     @PluginProperty(group = "connection")
-    private Property<String> tokenUrl = Property.ofValue("https://www.linkedin.com/oauth/v2/accessToken");
+    private Property<String> tokenUrl = Property.ofValue(DEFAULT_TOKEN_URL);
 
     @Override
     public Output run(RunContext runContext) throws Exception {
@@ -84,65 +84,58 @@ public class OAuth2 extends Task implements RunnableTask<OAuth2.Output> {
         String rRefreshToken = runContext.render(this.refreshToken).as(String.class).orElseThrow();
         String rTokenUrl = AbstractLinkedinTask.validateLinkedinHost(
             runContext.render(this.tokenUrl).as(String.class)
-                .orElse("https://www.linkedin.com/oauth/v2/accessToken")
+                .orElse(DEFAULT_TOKEN_URL)
         );
 
         try {
-            HttpConfiguration httpConfiguration = HttpConfiguration.builder()
-                .build();
-
-            Map<String, Object> formData = new HashMap<>();
-            formData.put("grant_type", "refresh_token");
-            formData.put("refresh_token", rRefreshToken);
-            formData.put("client_id", rClientId);
-            formData.put("client_secret", rClientSecret);
-
             HttpRequest request = HttpRequest.builder()
                 .uri(URI.create(rTokenUrl))
                 .method("POST")
                 .body(
                     HttpRequest.UrlEncodedRequestBody.builder()
                         .charset(StandardCharsets.UTF_8)
-                        .content(formData)
+                        .content(formData(rRefreshToken, rClientId, rClientSecret))
                         .build()
                 )
                 .addHeader("Accept", "application/json")
+                .addHeader("Accept-Encoding", LinkedinRequestTemplate.ACCEPT_ENCODING)
                 .build();
 
             try (
                 HttpClient httpClient = HttpClient.builder()
                     .runContext(runContext)
-                    .configuration(httpConfiguration)
+                    .configuration(LinkedinRequestTemplate.DEFAULT_HTTP_CONFIGURATION)
                     .build()
             ) {
 
-                HttpResponse<String> response = httpClient.request(request, String.class);
-                String responseBody = response.getBody();
+                LinkedinRequestTemplate.Response response = LinkedinTracing.inSpan("linkedin POST", SpanKind.CLIENT, span -> {
+                    span.setAttribute(LinkedinTracing.HTTP_METHOD, "POST");
+                    span.setAttribute(LinkedinTracing.URL_PATH, request.getUri().getPath());
+                    return LinkedinRequestTemplate.receive(httpClient, request, span);
+                });
+                String responseBody = response.body();
 
-                if (response.getStatus().getCode() >= 400) {
+                if (response.status() >= 400) {
                     runContext.logger().error(
                         "OAuth2 token refresh failed with status: {} - {}",
-                        response.getStatus().getCode(), responseBody
+                        response.status(), responseBody
                     );
                     throw new RuntimeException(
                         "LinkedIn OAuth2 authentication failed with status: "
                             +
-                            response.getStatus().getCode() + " - " + responseBody
+                            response.status() + " - " + responseBody
                     );
                 }
 
-                JsonNode jsonResponse = JacksonMapper.ofJson().readTree(responseBody);
+                TokenResponse tokenResponse = LinkedinTracing.inSpan(
+                    "linkedin.parse_json",
+                    span -> LinkedinJson.TOKEN_READER.<TokenResponse>readValue(responseBody)
+                );
 
-                String accessToken = jsonResponse.has("access_token")
-                    ? jsonResponse.get("access_token").asText()
-                    : null;
-                String tokenType = jsonResponse.has("token_type")
-                    ? jsonResponse.get("token_type").asText()
-                    : "Bearer";
-                Long expiresIn = jsonResponse.has("expires_in")
-                    ? jsonResponse.get("expires_in").asLong()
-                    : null;
-                String scope = jsonResponse.has("scope") ? jsonResponse.get("scope").asText() : null;
+                String accessToken = tokenResponse.accessToken();
+                String tokenType = tokenResponse.tokenType() != null ? tokenResponse.tokenType() : "Bearer";
+                Long expiresIn = tokenResponse.expiresIn();
+                String scope = tokenResponse.scope();
 
                 if (accessToken == null) {
                     throw new RuntimeException("No access token received in OAuth2 response");
@@ -170,6 +163,33 @@ public class OAuth2 extends Task implements RunnableTask<OAuth2.Output> {
         }
     }
 
+    /**
+     * The refresh token form, as a compact immutable map holding only the values of this call.
+     */
+    static Map<String, Object> formData(String refreshToken, String clientId, String clientSecret) {
+        return Map.of(
+            "grant_type", GRANT_TYPE,
+            "refresh_token", refreshToken,
+            "client_id", clientId,
+            "client_secret", clientSecret
+        );
+    }
+
+    /**
+     * Token response of the LinkedIn OAuth2 endpoint; the other fields of the answer are ignored.
+     */
+    record TokenResponse(
+        @JsonProperty("access_token") String accessToken,
+        @JsonProperty("token_type") String tokenType,
+        @JsonProperty("expires_in") Long expiresIn,
+        @JsonProperty("scope") String scope
+    ) {
+        @Override
+        public String toString() {
+            return "TokenResponse[****]";
+        }
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
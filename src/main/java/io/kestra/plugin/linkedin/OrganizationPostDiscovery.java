@@ -0,0 +1,131 @@
+package io.kestra.plugin.linkedin;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+/**
+ * Discovers the most recent posts of an organization through the posts finder, and keeps them in the namespace KV store.
+ * <p>
+ * The first discovery lists up to {@code maxPosts} posts; later refreshes only page through the posts created after the
+ * newest one already known, so a poll usually costs a single request.
+ */
+final class OrganizationPostDiscovery {
+    private static final int PAGE_SIZE = 50;
+
+    private final String organizationUrn;
+    private final int maxPosts;
+    // newest first
+    private final LinkedList<DiscoveredPost> posts = new LinkedList<>();
+
+    private OrganizationPostDiscovery(String organizationUrn, int maxPosts) {
+        if (maxPosts <= 0) {
+            throw new IllegalArgumentException("The maximum number of discovered posts must be strictly positive, got " + maxPosts);
+        }
+        this.organizationUrn = organizationUrn;
+        this.maxPosts = maxPosts;
+    }
+
+    static OrganizationPostDiscovery load(RunContext runContext, String namespace, String key, String organizationUrn, int maxPosts) throws Exception {
+        OrganizationPostDiscovery discovery = new OrganizationPostDiscovery(organizationUrn, maxPosts);
+
+        Optional<KVValue> stored = runContext.namespaceKv(namespace).getValue(key);
+        if (stored.isPresent()
+            && stored.get().value() instanceof Map<?, ?> state
+            && organizationUrn.equals(state.get("organizationUrn"))
+            && state.get("posts") instanceof List<?> posts) {
+            for (Object post : posts) {
+                if (post instanceof Map<?, ?> map && map.get("urn") instanceof String urn && map.get("createdAt") instanceof Number createdAt) {
+                    discovery.posts.add(new DiscoveredPost(urn, createdAt.longValue()));
+                }
+            }
+        }
+
+        return discovery;
+    }
+
+    /**
+     * Fetches the posts created since the last discovery.
+     *
+     * @return {@code true} if new posts were discovered
+     */
+    boolean refresh(HttpClient httpClient, LinkedinRequestTemplate template) throws Exception {
+        long newestKnown = this.posts.isEmpty() ? Long.MIN_VALUE : this.posts.getFirst().createdAt();
+        List<DiscoveredPost> discovered = new ArrayList<>();
+        int start = 0;
+
+        while (discovered.size() < this.maxPosts) {
+            JsonNode elements = template.fetchJson(
+                httpClient,
+                "/posts?q=author&author=" + URLEncoder.encode(this.organizationUrn, StandardCharsets.UTF_8)
+                    + "&sortBy=CREATED&start=" + start + "&count=" + PAGE_SIZE
+            ).path("elements");
+
+            boolean reachedKnown = false;
+            for (JsonNode element : elements) {
+                if (!element.has("id")) {
+                    continue;
+                }
+
+                long createdAt = element.path("createdAt").asLong(element.path("publishedAt").asLong(0));
+                if (createdAt <= newestKnown) {
+                    reachedKnown = true;
+                    break;
+                }
+
+                discovered.add(new DiscoveredPost(element.get("id").asText(), createdAt));
+                if (discovered.size() >= this.maxPosts) {
+                    break;
+                }
+            }
+
+            if (reachedKnown || elements.size() < PAGE_SIZE) {
+                break;
+            }
+            start += elements.size();
+        }
+
+        for (int i = discovered.size() - 1; i >= 0; i--) {
+            this.posts.addFirst(discovered.get(i));
+        }
+        while (this.posts.size() > this.maxPosts) {
+            this.posts.removeLast();
+        }
+
+        return !discovered.isEmpty();
+    }
+
+    List<String> postUrns() {
+        return this.posts.stream().map(DiscoveredPost::urn).toList();
+    }
+
+    void save(RunContext runContext, String namespace, String key, Duration ttl) throws Exception {
+        Map<String, Object> state = new HashMap<>();
+        state.put("organizationUrn", this.organizationUrn);
+        state.put(
+            "posts",
+            this.posts.stream().map(post -> Map.<String, Object>of("urn", post.urn(), "createdAt", post.createdAt())).toList()
+        );
+
+        runContext.namespaceKv(namespace).put(
+            key,
+            new KVValueAndMetadata(new KVMetadata("LinkedIn CommentTrigger discovered organization posts", ttl), state)
+        );
+    }
+
+    static String stateKey(String flowId, String triggerId) {
+        return ("linkedin_comment_trigger_posts." + flowId + "." + triggerId).replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    private record DiscoveredPost(String urn, long createdAt) {
+    }
+}
@@ -0,0 +1,221 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import lombok.Getter;
+
+/**
+ * Progress of a {@link GetPostAnalytics} run, saved every few URNs so a retried or restarted attempt of the same task run
+ * continues where the previous one stopped.
+ * <p>
+ * The records fetched since the last checkpoint are buffered in a chunk file; each checkpoint uploads the chunk to
+ * internal storage and saves the chunk URIs, the URN position and the running totals in the namespace KV store, under a
+ * key derived from the execution and task run ids.
+ * <p>
+ * In incremental mode, the reaction snapshots of the posts of each chunk are saved once, in a KV entry of their own
+ * referenced by the checkpoint, so the checkpoint stays small whatever the number of posts. The snapshots only replace the
+ * stored ones once the output of the task run is stored, by the attempt that completes it.
+ */
+final class PostAnalyticsCheckpoint implements Closeable {
+    static final Duration TTL = Duration.ofDays(7);
+
+    private final RunContext runContext;
+    private final String key;
+    private final int every;
+    private final List<String> chunks = new ArrayList<>();
+    // KV keys of the reaction snapshots of the saved chunks, in incremental mode
+    private final List<String> snapshotChunks = new ArrayList<>();
+    // snapshot key to reaction snapshot of the posts recorded so far, in incremental mode
+    @Getter
+    private final Map<String, ReactionSnapshot> snapshots = new LinkedHashMap<>();
+    // the ones of the current chunk, not saved yet
+    private final Map<String, ReactionSnapshot> chunkSnapshots = new LinkedHashMap<>();
+    @Getter
+    private int position;
+    @Getter
+    private int totalPosts;
+    @Getter
+    private int totalReactions;
+    @Getter
+    private int totalNewReactions;
+
+    private File chunkFile;
+    private OutputStream chunk;
+    private int pending;
+
+    private PostAnalyticsCheckpoint(RunContext runContext, String key, int every) {
+        if (every <= 0) {
+            throw new IllegalArgumentException("The checkpoint interval must be strictly positive, got " + every);
+        }
+
+        this.runContext = runContext;
+        this.key = key;
+        this.every = every;
+    }
+
+    static PostAnalyticsCheckpoint load(RunContext runContext, int every) throws Exception {
+        PostAnalyticsCheckpoint checkpoint = new PostAnalyticsCheckpoint(runContext, key(runContext), every);
+
+        Optional<KVValue> stored = runContext.namespaceKv(runContext.flowInfo().namespace()).getValue(checkpoint.key);
+        if (stored.isPresent() && stored.get().value() instanceof Map<?, ?> state) {
+            checkpoint.position = intValue(state.get("position"));
+            checkpoint.totalPosts = intValue(state.get("totalPosts"));
+            checkpoint.totalReactions = intValue(state.get("totalReactions"));
+            checkpoint.totalNewReactions = intValue(state.get("totalNewReactions"));
+            if (state.get("chunks") instanceof List<?> chunks) {
+                chunks.forEach(chunk -> checkpoint.chunks.add(String.valueOf(chunk)));
+            }
+            if (state.get("snapshotChunks") instanceof List<?> snapshotChunks) {
+                for (Object snapshotChunk : snapshotChunks) {
+                    checkpoint.snapshotChunks.add(String.valueOf(snapshotChunk));
+                    checkpoint.loadSnapshots(String.valueOf(snapshotChunk));
+                }
+            }
+
+            runContext.logger().info("Resuming from checkpoint after {} posts", checkpoint.totalPosts);
+        }
+
+        return checkpoint;
+    }
+
+    private void loadSnapshots(String snapshotChunk) throws Exception {
+        Optional<KVValue> stored = this.runContext.namespaceKv(this.runContext.flowInfo().namespace()).getValue(snapshotChunk);
+        if (stored.isPresent() && stored.get().value() instanceof Map<?, ?> snapshots) {
+            snapshots.forEach((snapshotKey, snapshot) -> {
+                if (snapshot instanceof Map<?, ?> snapshotState) {
+                    this.snapshots.put(String.valueOf(snapshotKey), ReactionSnapshot.of(snapshotState));
+                }
+            });
+        }
+    }
+
+    /**
+     * Copies the records saved by the previous attempts into the output of this one.
+     */
+    void restore(OutputStream output) throws IOException {
+        for (String chunk : this.chunks) {
+            try (InputStream inputStream = this.runContext.storage().getFile(URI.create(chunk))) {
+                inputStream.transferTo(output);
+            }
+        }
+    }
+
+    /**
+     * Adds a fetched post, saving a checkpoint every {@code every} posts.
+     *
+     * @param snapshotKey the key of the updated reaction snapshot of the post, {@code null} if it has none to save
+     */
+    void record(Object postData, String snapshotKey, ReactionSnapshot snapshot, int position, int totalPosts, int totalReactions, int totalNewReactions) throws Exception {
+        if (this.chunk == null) {
+            this.chunkFile = this.runContext.workingDir().createTempFile(".ion").toFile();
+            this.chunk = new BufferedOutputStream(new FileOutputStream(this.chunkFile), FileSerde.BUFFER_SIZE);
+        }
+
+        FileSerde.write(this.chunk, postData);
+        if (snapshotKey != null) {
+            this.snapshots.put(snapshotKey, snapshot);
+            this.chunkSnapshots.put(snapshotKey, snapshot);
+        }
+        this.position = position;
+        this.totalPosts = totalPosts;
+        this.totalReactions = totalReactions;
+        this.totalNewReactions = totalNewReactions;
+
+        if (++this.pending >= this.every) {
+            this.save();
+        }
+    }
+
+    /**
+     * Uploads the pending records with their reaction snapshots and saves the progress.
+     */
+    void save() throws Exception {
+        if (this.chunk == null) {
+            return;
+        }
+
+        this.chunk.close();
+        this.chunk = null;
+        this.chunks.add(this.runContext.storage().putFile(this.chunkFile).toString());
+        this.pending = 0;
+
+        KVStore kvStore = this.runContext.namespaceKv(this.runContext.flowInfo().namespace());
+        if (!this.chunkSnapshots.isEmpty()) {
+            Map<String, Object> snapshots = new HashMap<>();
+            this.chunkSnapshots.forEach((snapshotKey, snapshot) -> snapshots.put(snapshotKey, snapshot.state()));
+            String snapshotChunk = this.key + ".snapshots." + this.chunks.size();
+            kvStore.put(snapshotChunk, new KVValueAndMetadata(new KVMetadata("LinkedIn GetPostAnalytics checkpoint snapshots", TTL), snapshots));
+            this.snapshotChunks.add(snapshotChunk);
+            this.chunkSnapshots.clear();
+        }
+
+        Map<String, Object> state = new HashMap<>();
+        state.put("position", this.position);
+        state.put("totalPosts", this.totalPosts);
+        state.put("totalReactions", this.totalReactions);
+        state.put("totalNewReactions", this.totalNewReactions);
+        state.put("chunks", this.chunks);
+        state.put("snapshotChunks", this.snapshotChunks);
+
+        kvStore.put(
+            this.key,
+            new KVValueAndMetadata(new KVMetadata("LinkedIn GetPostAnalytics checkpoint", TTL), state)
+        );
+    }
+
+    /**
+     * Forgets the checkpoint once the run completed.
+     */
+    void delete() throws Exception {
+        this.close();
+        KVStore kvStore = this.runContext.namespaceKv(this.runContext.flowInfo().namespace());
+        for (String snapshotChunk : this.snapshotChunks) {
+            kvStore.delete(snapshotChunk);
+        }
+        kvStore.delete(this.key);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.chunk != null) {
+            this.chunk.close();
+            this.chunk = null;
+        }
+    }
+
+    static String key(RunContext runContext) {
+        Map<String, Object> variables = runContext.getVariables();
+        Object executionId = variables.get("execution") instanceof Map<?, ?> execution ? execution.get("id") : null;
+        Object taskRunId = variables.get("taskrun") instanceof Map<?, ?> taskRun ? taskRun.get("id") : null;
+        if (executionId == null || taskRunId == null) {
+            throw new IllegalStateException("Checkpoints are only available when running inside an execution");
+        }
+
+        return ("linkedin_post_analytics_checkpoint." + executionId + "." + taskRunId).replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+}
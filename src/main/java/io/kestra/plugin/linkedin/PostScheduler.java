@@ -0,0 +1,248 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reorders the posts of a run so the ones with the highest priority are fetched first, while the rate budget is the
+ * bottleneck.
+ * <p>
+ * The pending posts are kept in a priority queue shared by all the concurrent requests of the run. With a rate limiter,
+ * each post is only released once the budget has a permit for its request, rather than when a request slot frees up, so
+ * no slot sits on a post while waiting for the budget; the wait runs on a virtual thread, the queue itself never blocks.
+ * <p>
+ * A post at position {@code p} in the URN list with priority {@code n} is ranked {@code p - n * agingWindow}, lowest
+ * first. A post is therefore overtaken by at most {@code agingWindow} later posts per level of priority they have above
+ * it, so low-priority posts still run. Since no post can move further ahead than {@code MAX_PRIORITY * agingWindow}
+ * positions, the posts are reordered in a bounded lookahead instead of reading the whole URN list first; as the rank of a
+ * post is set when it is queued, this yields the same order as queuing all of them.
+ */
+final class PostScheduler {
+    static final int MAX_PRIORITY = 10;
+
+    // LinkedIn activity, share and ugcPost ids hold their creation time in epoch milliseconds in their first 41 bits
+    private static final int URN_TIMESTAMP_SHIFT = 22;
+    private static final long LINKEDIN_EPOCH_MILLIS = Instant.parse("2003-05-05T00:00:00Z").toEpochMilli();
+
+    // newest reaction or comment seen on each post, worker-wide so the activity found by a run ranks the posts of the next
+    // ones; entries older than the last activity tier no longer raise the priority and are swept
+    private static final Map<String, Long> LAST_ACTIVITY = new ConcurrentHashMap<>();
+    private static final Duration ACTIVITY_TTL = Duration.ofDays(7);
+    private static final int MAX_TRACKED_POSTS = 100_000;
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+    private static final AtomicLong LAST_SWEEP = new AtomicLong();
+
+    private final Map<String, Integer> priorities;
+    private final boolean prioritizeRecentPosts;
+    private final int agingWindow;
+    private final Instant now;
+    private final LinkedinRateLimiter rateLimiter;
+
+    PostScheduler(Map<String, Integer> priorities, boolean prioritizeRecentPosts, int agingWindow, Instant now, LinkedinRateLimiter rateLimiter) {
+        if (agingWindow <= 0) {
+            throw new IllegalArgumentException("The priority aging window must be strictly positive, got " + agingWindow);
+        }
+        priorities.forEach((urn, priority) -> {
+            if (priority == null || priority < 0 || priority > MAX_PRIORITY) {
+                throw new IllegalArgumentException("The priority of " + urn + " must be between 0 and " + MAX_PRIORITY + ", got " + priority);
+            }
+        });
+
+        this.priorities = priorities;
+        this.prioritizeRecentPosts = prioritizeRecentPosts;
+        this.agingWindow = agingWindow;
+        this.now = now;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * @param rateLimiter the rate budget of the run, {@code null} when unlimited
+     * @return a scheduler, or {@code null} when no priority is set and the posts are processed in the order of the URNs
+     */
+    static PostScheduler of(Map<String, Integer> priorities, boolean prioritizeRecentPosts, int agingWindow, LinkedinRateLimiter rateLimiter) {
+        if ((priorities == null || priorities.isEmpty()) && !prioritizeRecentPosts) {
+            return null;
+        }
+
+        return new PostScheduler(priorities != null ? priorities : Map.of(), prioritizeRecentPosts, agingWindow, Instant.now(), rateLimiter);
+    }
+
+    /**
+     * Records the newest reaction or comment seen on a post, raising its priority in the next runs prioritizing recent posts.
+     */
+    static void recordActivity(String urn, long activityMillis) {
+        if (activityMillis <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long lastSweep = LAST_SWEEP.get();
+        if ((now - lastSweep >= SWEEP_INTERVAL.toMillis() || LAST_ACTIVITY.size() >= MAX_TRACKED_POSTS) && LAST_SWEEP.compareAndSet(lastSweep, now)) {
+            sweep(now);
+        }
+
+        if (LAST_ACTIVITY.size() < MAX_TRACKED_POSTS || LAST_ACTIVITY.containsKey(urn)) {
+            LAST_ACTIVITY.merge(urn, activityMillis, Math::max);
+        }
+    }
+
+    /**
+     * @return the newest activity recorded on the post, {@code null} if none was seen within the activity TTL
+     */
+    static Instant lastActivity(String urn) {
+        Long activityMillis = LAST_ACTIVITY.get(urn);
+        return activityMillis != null ? Instant.ofEpochMilli(activityMillis) : null;
+    }
+
+    static void sweep(long nowMillis) {
+        LAST_ACTIVITY.values().removeIf(activityMillis -> nowMillis - activityMillis > ACTIVITY_TTL.toMillis());
+    }
+
+    /**
+     * Reorders the URNs by priority, releasing each one once the rate budget allows its request; closing the returned
+     * flux cancels the source.
+     */
+    Flux<String> schedule(Flux<String> urns) {
+        Flux<String> scheduled = Flux.using(urns::toStream, stream -> Flux.fromIterable(() -> this.schedule(stream.iterator())), Stream::close);
+        if (this.rateLimiter == null) {
+            return scheduled;
+        }
+
+        // the permit is awaited without being taken, the request of the post then takes it
+        return scheduled.delayUntil(urn -> Mono.fromCallable(() -> {
+                this.rateLimiter.awaitPermit();
+                return urn;
+            })
+            .subscribeOn(LinkedinSchedulers.requests()));
+    }
+
+    Iterator<String> schedule(Iterator<String> urns) {
+        return new ScheduledIterator(urns);
+    }
+
+    /**
+     * @return the explicit priority of the post or, when {@code prioritizeRecentPosts} is set, the highest of the ones
+     * derived from its age and from its last activity
+     */
+    int priority(String urn) {
+        Integer priority = this.priorities.get(urn);
+        if (priority != null) {
+            return priority;
+        }
+
+        if (!this.prioritizeRecentPosts) {
+            return 0;
+        }
+
+        return Math.max(this.agePriority(urn), this.activityPriority(urn));
+    }
+
+    private int agePriority(String urn) {
+        Instant createdAt = createdAt(urn);
+        if (createdAt == null) {
+            return 0;
+        }
+
+        Duration age = Duration.between(createdAt, this.now);
+        if (age.compareTo(Duration.ofDays(1)) < 0) {
+            return MAX_PRIORITY;
+        } else if (age.compareTo(Duration.ofDays(7)) < 0) {
+            return 6;
+        } else if (age.compareTo(Duration.ofDays(30)) < 0) {
+            return 3;
+        }
+        return 0;
+    }
+
+    private int activityPriority(String urn) {
+        Instant lastActivity = lastActivity(urn);
+        if (lastActivity == null) {
+            return 0;
+        }
+
+        Duration idle = Duration.between(lastActivity, this.now);
+        if (idle.compareTo(Duration.ofHours(1)) < 0) {
+            return MAX_PRIORITY;
+        } else if (idle.compareTo(Duration.ofDays(1)) < 0) {
+            return 6;
+        } else if (idle.compareTo(ACTIVITY_TTL) < 0) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * @return the creation time encoded in the id of the post URN, {@code null} if the URN doesn't hold a plausible one
+     */
+    static Instant createdAt(String urn) {
+        int separator = urn.lastIndexOf(':');
+        if (separator < 0 || separator == urn.length() - 1) {
+            return null;
+        }
+
+        long id;
+        try {
+            id = Long.parseLong(urn.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        long millis = id >>> URN_TIMESTAMP_SHIFT;
+        if (id <= 0 || millis < LINKEDIN_EPOCH_MILLIS || millis > System.currentTimeMillis() + Duration.ofDays(1).toMillis()) {
+            return null;
+        }
+
+        return Instant.ofEpochMilli(millis);
+    }
+
+    private record Pending(String urn, long rank, long position) {
+    }
+
+    private final class ScheduledIterator implements Iterator<String> {
+        private final Iterator<String> source;
+        private final PriorityQueue<Pending> queue = new PriorityQueue<>(
+            Comparator.comparingLong(Pending::rank).thenComparingLong(Pending::position)
+        );
+        private final long lookahead = (long) MAX_PRIORITY * PostScheduler.this.agingWindow;
+        private long position;
+
+        private ScheduledIterator(Iterator<String> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+            this.fill();
+            return !this.queue.isEmpty();
+        }
+
+        @Override
+        public String next() {
+            this.fill();
+            if (this.queue.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return this.queue.poll().urn();
+        }
+
+        // reads ahead until no URN still to come can be ranked before the head of the queue
+        private void fill() {
+            while (this.source.hasNext() && (this.queue.isEmpty() || this.queue.peek().rank() > this.position - this.lookahead)) {
+                String urn = this.source.next();
+                long rank = this.position - (long) priority(urn) * PostScheduler.this.agingWindow;
+                this.queue.add(new Pending(urn, rank, this.position++));
+            }
+        }
+    }
+}
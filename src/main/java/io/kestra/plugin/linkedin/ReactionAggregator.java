@@ -0,0 +1,143 @@
+package io.kestra.plugin.linkedin;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Accumulates per-type reaction counts and a time histogram while parsing, without keeping the individual reactions.
+ * <p>
+ * Buckets and types are stored in growable primitive arrays: the per-type counts of bucket {@code b} for type {@code t}
+ * are at {@code typeCounts[t][b]}. Reactions arrive newest first, so the matching bucket is almost always the last one.
+ */
+final class ReactionAggregator {
+    private final long bucketMillis;
+
+    private long[] bucketStarts = new long[16];
+    private int[] bucketTotals = new int[16];
+    private int buckets;
+
+    private String[] types = new String[8];
+    private int[] typeTotals = new int[8];
+    private int[][] typeCounts = new int[8][];
+    private int typesCount;
+
+    private int total;
+
+    ReactionAggregator(GetPostAnalytics.Aggregation aggregation) {
+        if (aggregation == null || aggregation == GetPostAnalytics.Aggregation.NONE) {
+            throw new IllegalArgumentException("An aggregation interval is required");
+        }
+
+        this.bucketMillis = aggregation == GetPostAnalytics.Aggregation.HOURLY ? 3_600_000L : 86_400_000L;
+    }
+
+    /**
+     * @param reactionType the reaction type, {@code null} if unknown
+     * @param createdTime the creation time in epoch milliseconds, negative if unknown; such reactions are only counted by type
+     */
+    void add(String reactionType, long createdTime) {
+        this.total++;
+
+        int type = reactionType != null ? this.typeIndex(reactionType) : -1;
+        if (type >= 0) {
+            this.typeTotals[type]++;
+        }
+
+        if (createdTime < 0) {
+            return;
+        }
+
+        int bucket = this.bucketIndex(createdTime - Math.floorMod(createdTime, this.bucketMillis));
+        this.bucketTotals[bucket]++;
+        if (type >= 0) {
+            this.typeCounts[type][bucket]++;
+        }
+    }
+
+    int total() {
+        return this.total;
+    }
+
+    Map<String, Integer> summary() {
+        Map<String, Integer> summary = new LinkedHashMap<>();
+        for (int type = 0; type < this.typesCount; type++) {
+            summary.put(this.types[type], this.typeTotals[type]);
+        }
+        return summary;
+    }
+
+    /**
+     * @return the non-empty buckets, oldest first
+     */
+    GetPostAnalytics.ReactionHistogram histogram() {
+        int[] order = IntStream.range(0, this.buckets)
+            .boxed()
+            .sorted((a, b) -> Long.compare(this.bucketStarts[a], this.bucketStarts[b]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        long[] starts = new long[this.buckets];
+        int[] counts = new int[this.buckets];
+        for (int i = 0; i < order.length; i++) {
+            starts[i] = this.bucketStarts[order[i]];
+            counts[i] = this.bucketTotals[order[i]];
+        }
+
+        Map<String, int[]> countsByType = new LinkedHashMap<>();
+        for (int type = 0; type < this.typesCount; type++) {
+            int[] typeCounts = new int[this.buckets];
+            for (int i = 0; i < order.length; i++) {
+                typeCounts[i] = this.typeCounts[type][order[i]];
+            }
+            countsByType.put(this.types[type], typeCounts);
+        }
+
+        return GetPostAnalytics.ReactionHistogram.builder()
+            .bucketMillis(this.bucketMillis)
+            .bucketStarts(starts)
+            .counts(counts)
+            .countsByType(countsByType)
+            .build();
+    }
+
+    private int bucketIndex(long start) {
+        for (int bucket = this.buckets - 1; bucket >= 0; bucket--) {
+            if (this.bucketStarts[bucket] == start) {
+                return bucket;
+            }
+        }
+
+        if (this.buckets == this.bucketStarts.length) {
+            int capacity = this.buckets * 2;
+            this.bucketStarts = Arrays.copyOf(this.bucketStarts, capacity);
+            this.bucketTotals = Arrays.copyOf(this.bucketTotals, capacity);
+            for (int type = 0; type < this.typesCount; type++) {
+                this.typeCounts[type] = Arrays.copyOf(this.typeCounts[type], capacity);
+            }
+        }
+
+        this.bucketStarts[this.buckets] = start;
+        return this.buckets++;
+    }
+
+    private int typeIndex(String reactionType) {
+        for (int type = 0; type < this.typesCount; type++) {
+            if (this.types[type].equals(reactionType)) {
+                return type;
+            }
+        }
+
+        if (this.typesCount == this.types.length) {
+            int capacity = this.typesCount * 2;
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.typeTotals = Arrays.copyOf(this.typeTotals, capacity);
+            this.typeCounts = Arrays.copyOf(this.typeCounts, capacity);
+        }
+
+        this.types[this.typesCount] = reactionType;
+        this.typeCounts[this.typesCount] = new int[this.bucketStarts.length];
+        return this.typesCount++;
+    }
+}
@@ -0,0 +1,103 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVValue;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
+
+import lombok.Getter;
+
+/**
+ * Compact per-post reaction state persisted in the namespace KV store by incremental {@link GetPostAnalytics} runs:
+ * the creation time of the newest reaction already counted, the keys of the reactions counted at that very millisecond,
+ * and the per-type counts at that point.
+ */
+@Getter
+final class ReactionSnapshot {
+    private final long lastReactionTime;
+    // a reaction created in the same millisecond as the last one counted may only be returned by a later run
+    private final Set<String> lastReactionKeys;
+    private final int totalReactions;
+    private final Map<String, Integer> reactionsSummary;
+
+    ReactionSnapshot(long lastReactionTime, Set<String> lastReactionKeys, int totalReactions, Map<String, Integer> reactionsSummary) {
+        this.lastReactionTime = lastReactionTime;
+        this.lastReactionKeys = lastReactionKeys;
+        this.totalReactions = totalReactions;
+        this.reactionsSummary = reactionsSummary;
+    }
+
+    static ReactionSnapshot empty() {
+        return new ReactionSnapshot(Long.MIN_VALUE, new HashSet<>(), 0, new HashMap<>());
+    }
+
+    boolean isEmpty() {
+        return this.lastReactionTime == Long.MIN_VALUE;
+    }
+
+    static ReactionSnapshot load(RunContext runContext, String key) throws Exception {
+        Optional<KVValue> stored = runContext.namespaceKv(runContext.flowInfo().namespace()).getValue(key);
+        if (stored.isEmpty() || !(stored.get().value() instanceof Map<?, ?> state)) {
+            return empty();
+        }
+
+        return of(state);
+    }
+
+    void save(RunContext runContext, String key) throws Exception {
+        runContext.namespaceKv(runContext.flowInfo().namespace()).put(
+            key,
+            new KVValueAndMetadata(new KVMetadata("LinkedIn reactions snapshot", (Duration) null), this.state())
+        );
+    }
+
+    /**
+     * @return the snapshot as stored in the KV store
+     */
+    Map<String, Object> state() {
+        Map<String, Object> state = new HashMap<>();
+        state.put("lastReactionTime", this.lastReactionTime);
+        state.put("lastReactionKeys", new ArrayList<>(this.lastReactionKeys));
+        state.put("totalReactions", this.totalReactions);
+        state.put("reactionsSummary", this.reactionsSummary);
+        return state;
+    }
+
+    static ReactionSnapshot of(Map<?, ?> state) {
+        Map<String, Integer> reactionsSummary = new HashMap<>();
+        if (state.get("reactionsSummary") instanceof Map<?, ?> summary) {
+            summary.forEach((type, count) -> reactionsSummary.put(String.valueOf(type), ((Number) count).intValue()));
+        }
+
+        Set<String> lastReactionKeys = new HashSet<>();
+        if (state.get("lastReactionKeys") instanceof Iterable<?> keys) {
+            keys.forEach(key -> lastReactionKeys.add(String.valueOf(key)));
+        }
+
+        return new ReactionSnapshot(
+            state.get("lastReactionTime") instanceof Number time ? time.longValue() : Long.MIN_VALUE,
+            lastReactionKeys,
+            state.get("totalReactions") instanceof Number total ? total.intValue() : 0,
+            reactionsSummary
+        );
+    }
+
+    /**
+     * @return the identity of a reaction among the ones of its post: its id, or its actor and type when LinkedIn sent no id
+     */
+    static String reactionKey(String reactionId, String actorUrn, String reactionType) {
+        return reactionId != null ? reactionId : actorUrn + "|" + reactionType;
+    }
+
+    static String key(String prefix, String activityUrn) {
+        return (prefix + "." + activityUrn).replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+}
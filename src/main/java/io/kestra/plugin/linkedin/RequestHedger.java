@@ -0,0 +1,127 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends a duplicate of an idempotent request when the first one is slower than a percentile of the latencies observed
+ * so far in the run, and returns the first successful answer.
+ * <p>
+ * Hedging only starts once {@value #MIN_SAMPLES} latencies were recorded, and duplicates are capped to 10% of the
+ * requests and to the free permits of the run rate limiter, if any, so the extra load stays small.
+ */
+final class RequestHedger {
+    static final int MIN_SAMPLES = 20;
+    static final double MAX_HEDGE_RATIO = 0.1;
+
+    private final double percentile;
+    private final LinkedinRateLimiter rateLimiter;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger hedges = new AtomicInteger();
+
+    RequestHedger(double percentile, LinkedinRateLimiter rateLimiter) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("The hedging percentile must be between 0 and 100 excluded, got " + percentile);
+        }
+
+        this.percentile = percentile;
+        this.rateLimiter = rateLimiter;
+    }
+
+    <T> T execute(Callable<T> call) throws Exception {
+        this.requests.incrementAndGet();
+        Duration delay = this.latencies.count() >= MIN_SAMPLES ? this.latencies.percentile(this.percentile) : null;
+
+        CompletableFuture<T> primary = this.timed(call);
+        if (delay == null) {
+            return await(primary);
+        }
+
+        try {
+            return primary.get(delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // slower than usual, hedge below if the budget allows it
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        if (!this.reserveHedge()) {
+            return await(primary);
+        }
+
+        CompletableFuture<T> hedge = this.timed(call);
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        for (CompletableFuture<T> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    first.complete(value);
+                } else if (pending.decrementAndGet() == 0) {
+                    first.completeExceptionally(error);
+                }
+            });
+        }
+
+        try {
+            return await(first);
+        } finally {
+            primary.cancel(false);
+            hedge.cancel(false);
+        }
+    }
+
+    int hedgesCount() {
+        return this.hedges.get();
+    }
+
+    private boolean reserveHedge() {
+        if (this.hedges.get() + 1 > this.requests.get() * MAX_HEDGE_RATIO) {
+            return false;
+        }
+        if (this.rateLimiter != null && !this.rateLimiter.tryAcquire()) {
+            return false;
+        }
+
+        this.hedges.incrementAndGet();
+        return true;
+    }
+
+    private <T> CompletableFuture<T> timed(Callable<T> call) {
+        return Mono.fromCallable(() -> {
+                long start = System.nanoTime();
+                T result = call.call();
+                this.latencies.record(Duration.ofNanos(System.nanoTime() - start));
+                return result;
+            })
+            // like the fetches themselves, an attempt waiting on the network only holds a virtual thread
+            .subscribeOn(LinkedinSchedulers.requests())
+            .toFuture();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static Exception unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause instanceof Exception exception ? exception : e;
+    }
+}
@@ -0,0 +1,56 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A half-open {@code [start, end)} slice of the requested time range.
+ */
+record TimeBucket(Instant start, Instant end) {
+    static List<TimeBucket> split(Instant start, Instant end, Duration bucketSize) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("endTime must be after startTime, got " + start + " and " + end);
+        }
+        if (bucketSize.isZero() || bucketSize.isNegative()) {
+            throw new IllegalArgumentException("bucketSize must be strictly positive, got " + bucketSize);
+        }
+
+        List<TimeBucket> buckets = new ArrayList<>();
+        Instant current = start;
+        while (current.isBefore(end)) {
+            Instant next = current.plus(bucketSize);
+            buckets.add(new TimeBucket(current, next.isAfter(end) ? end : next));
+            current = next;
+        }
+        return buckets;
+    }
+
+    /**
+     * Splits the range on month boundaries, in the time zone of {@code start}, so the monthly rows returned by
+     * LinkedIn never straddle two buckets; only the first and last buckets may cover a partial month.
+     */
+    static List<TimeBucket> splitMonths(ZonedDateTime start, Instant end, Duration bucketSize) {
+        if (!end.isAfter(start.toInstant())) {
+            throw new IllegalArgumentException("endTime must be after startTime, got " + start + " and " + end);
+        }
+        if (bucketSize.isZero() || bucketSize.isNegative()) {
+            throw new IllegalArgumentException("bucketSize must be strictly positive, got " + bucketSize);
+        }
+
+        long months = Math.max(1, Math.round(bucketSize.toDays() / 30.0));
+        ZonedDateTime firstOfMonth = start.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+
+        List<TimeBucket> buckets = new ArrayList<>();
+        Instant current = start.toInstant();
+        for (int i = 1; current.isBefore(end); i++) {
+            Instant next = firstOfMonth.plusMonths(months * i).toInstant();
+            buckets.add(new TimeBucket(current, next.isAfter(end) ? end : next));
+            current = next;
+        }
+        return buckets;
+    }
+}
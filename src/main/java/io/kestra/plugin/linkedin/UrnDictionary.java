@@ -0,0 +1,55 @@
+package io.kestra.plugin.linkedin;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplicates the URNs parsed during a run, so the thousands of reactions or comments of the same actor or post share
+ * a single {@link String} instead of holding a copy each.
+ * <p>
+ * The dictionary is scoped to a run rather than the worker, so its entries are released with it. Once it holds
+ * {@code capacity} URNs, new ones are returned as is.
+ */
+final class UrnDictionary {
+    static final int DEFAULT_CAPACITY = 100_000;
+
+    private final Map<String, String> urns = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    UrnDictionary(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The URN dictionary capacity must be strictly positive, got " + capacity);
+        }
+
+        this.capacity = capacity;
+    }
+
+    UrnDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return the instance of {@code urn} held by the dictionary, {@code urn} itself if it is new or the dictionary is full
+     */
+    String intern(String urn) {
+        if (urn == null) {
+            return null;
+        }
+
+        String existing = this.urns.get(urn);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (this.urns.size() >= this.capacity) {
+            return urn;
+        }
+
+        existing = this.urns.putIfAbsent(urn, urn);
+        return existing != null ? existing : urn;
+    }
+
+    int size() {
+        return this.urns.size();
+    }
+}
@@ -0,0 +1,108 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Resolves a list of URNs given either inline in the flow or as a {@code kestra://} internal storage file.
+ * <p>
+ * Files are read lazily, one URN at a time, so the number of URNs does not affect memory. Supported formats are ION
+ * (strings, or records holding an {@code urn} field or a single value), CSV (first column, optional header) and
+ * plain newline-separated lists.
+ */
+final class UrnSource {
+    private UrnSource() {
+    }
+
+    static Flux<String> of(
+        RunContext runContext,
+        Property<List<String>> urns,
+        String urnsName,
+        Property<String> urnsFrom,
+        String urnsFromName
+    ) throws Exception {
+        String rUrnsFrom = runContext.render(urnsFrom).as(String.class).orElse(null);
+
+        if (rUrnsFrom != null && urns != null) {
+            throw new IllegalArgumentException("Only one of `" + urnsName + "` or `" + urnsFromName + "` can be set");
+        }
+
+        if (rUrnsFrom != null) {
+            return read(runContext, URI.create(rUrnsFrom));
+        }
+
+        if (urns == null) {
+            throw new IllegalArgumentException("One of `" + urnsName + "` or `" + urnsFromName + "` must be set");
+        }
+
+        return Flux.fromIterable(runContext.render(urns).asList(String.class));
+    }
+
+    static Flux<String> read(RunContext runContext, URI uri) {
+        if (!"kestra".equals(uri.getScheme())) {
+            throw new IllegalArgumentException("Invalid URN file '" + uri + "': only kestra:// internal storage URIs are supported");
+        }
+
+        Flux<String> urns = Flux.using(
+            () -> new BufferedReader(new InputStreamReader(runContext.storage().getFile(uri), StandardCharsets.UTF_8), FileSerde.BUFFER_SIZE),
+            reader -> uri.getPath().endsWith(".ion")
+                ? FileSerde.readAll(reader).map(UrnSource::fromIonValue)
+                : Flux.fromStream(reader.lines()).map(UrnSource::fromTextLine),
+            reader -> {
+                try {
+                    reader.close();
+                } catch (Exception e) {
+                    runContext.logger().warn("Unable to close URN file '{}'", uri, e);
+                }
+            }
+        );
+
+        return urns
+            .filter(urn -> !urn.isEmpty())
+            // skip a CSV header or any other line that is not a URN
+            .filter(urn -> urn.startsWith("urn:"));
+    }
+
+    private static String fromIonValue(Object value) {
+        if (value instanceof Map<?, ?> record) {
+            Object urn = record.containsKey("urn") ? record.get("urn") : record.size() == 1 ? record.values().iterator().next() : null;
+            return urn == null ? "" : urn.toString().trim();
+        }
+
+        return value == null ? "" : value.toString().trim();
+    }
+
+    private static String fromTextLine(String line) {
+        String trimmed = line.trim();
+
+        if (trimmed.startsWith("\"")) {
+            int end = trimmed.indexOf('"', 1);
+            return (end > 0 ? trimmed.substring(1, end) : trimmed.substring(1)).trim();
+        }
+
+        // URNs such as urn:li:comment:(activity:1,2) hold commas, only a comma outside parentheses ends the column
+        int depth = 0;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth <= 0) {
+                return trimmed.substring(0, i).trim();
+            }
+        }
+
+        return trimmed;
+    }
+}
@@ -0,0 +1,81 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.plugin.linkedin.stubs.LinkedInProfilesStubController;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class ActorProfileResolverTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
+    @Test
+    void shouldResolveAndCacheProfiles() throws Exception {
+        RunContext runContext = runContextFactory.of(Map.of());
+        ActorProfileCache cache = new ActorProfileCache(100);
+
+        try (HttpClient httpClient = HttpClient.builder().runContext(runContext).configuration(HttpConfiguration.builder().build()).build()) {
+            ActorProfileResolver resolver = new ActorProfileResolver(
+                runContext, httpClient, LinkedinRequestTemplate.of(server.getURI().toString(), "202509"), Duration.ofHours(1), null, cache
+            );
+
+            int before = LinkedInProfilesStubController.REQUESTS.get();
+            var profiles = resolver.resolve(List.of("urn:li:person:abc", "urn:li:organization:42", "urn:li:person:abc", "urn:li:unknown:1"));
+
+            assertThat(LinkedInProfilesStubController.REQUESTS.get() - before, equalTo(2));
+            assertThat(profiles.keySet(), containsInAnyOrder("urn:li:person:abc", "urn:li:organization:42"));
+            assertThat(profiles.get("urn:li:person:abc").getName(), equalTo("Ada Lovelace"));
+            assertThat(profiles.get("urn:li:person:abc").getHeadline(), equalTo("Analyst"));
+            assertThat(profiles.get("urn:li:organization:42").getName(), equalTo("Kestra"));
+
+            resolver.resolve(List.of("urn:li:person:abc", "urn:li:organization:42"));
+            assertThat(LinkedInProfilesStubController.REQUESTS.get() - before, equalTo(2));
+        }
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedProfiles() {
+        ActorProfileCache cache = new ActorProfileCache(2);
+        cache.put(ActorProfile.builder().urn("a").build(), Duration.ofHours(1));
+        cache.put(ActorProfile.builder().urn("b").build(), Duration.ofHours(1));
+        cache.get("a");
+        cache.put(ActorProfile.builder().urn("c").build(), Duration.ofHours(1));
+
+        assertThat(cache.size(), equalTo(2));
+        assertThat(cache.get("a"), notNullValue());
+        assertThat(cache.get("b"), nullValue());
+    }
+
+    @Test
+    void shouldExpireProfiles() {
+        ActorProfileCache cache = new ActorProfileCache(2);
+        cache.put(ActorProfile.builder().urn("a").build(), Duration.ofMillis(-1));
+
+        assertThat(cache.get("a"), nullValue());
+    }
+}
@@ -0,0 +1,60 @@
+package io.kestra.plugin.linkedin;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommentDeduplicationIndexTest {
+    @Test
+    void shouldDetectDuplicateComments() {
+        CommentDeduplicationIndex index = CommentDeduplicationIndex.empty(10);
+
+        assertThat(index.markSeen("urn:li:activity:1", "urn:li:comment:(activity:1,100)"), is(true));
+        assertThat(index.markSeen("urn:li:activity:1", "urn:li:comment:(activity:1,100)"), is(false));
+        assertThat(index.markSeen("urn:li:activity:1", "urn:li:comment:(activity:1,101)"), is(true));
+    }
+
+    @Test
+    void shouldTrackPostsIndependently() {
+        CommentDeduplicationIndex index = CommentDeduplicationIndex.empty(10);
+
+        assertThat(index.markSeen("urn:li:activity:1", "comment"), is(true));
+        assertThat(index.markSeen("urn:li:activity:2", "comment"), is(true));
+    }
+
+    @Test
+    void shouldEvictOldestEntriesWhenFull() {
+        CommentDeduplicationIndex index = CommentDeduplicationIndex.empty(2);
+
+        index.markSeen("post", "c1");
+        index.markSeen("post", "c2");
+        index.markSeen("post", "c3");
+
+        assertThat(index.markSeen("post", "c3"), is(false));
+        assertThat(index.markSeen("post", "c1"), is(true));
+    }
+
+    @Test
+    void shouldForgetRemovedPosts() {
+        CommentDeduplicationIndex index = CommentDeduplicationIndex.empty(10);
+
+        index.markSeen("urn:li:activity:1", "comment");
+        index.retainPosts(List.of("urn:li:activity:2"));
+
+        assertThat(index.markSeen("urn:li:activity:1", "comment"), is(true));
+    }
+
+    @Test
+    void shouldBuildValidStateKey() {
+        assertThat(CommentDeduplicationIndex.stateKey("my flow", "new_comment_trigger"), equalTo("linkedin_comment_trigger.my_flow.new_comment_trigger"));
+    }
+
+    @Test
+    void shouldRejectInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> CommentDeduplicationIndex.empty(0));
+    }
+}
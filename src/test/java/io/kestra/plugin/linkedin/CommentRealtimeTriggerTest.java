@@ -0,0 +1,113 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.http.client.HttpClientResponseException;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.Trigger;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.TestsUtils;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import jakarta.inject.Inject;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class CommentRealtimeTriggerTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
+    @Test
+    void testTaskBuilderDefaults() throws Exception {
+        CommentRealtimeTrigger trigger = CommentRealtimeTrigger.builder()
+            .id("test-trigger")
+            .type(CommentRealtimeTrigger.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .postUrns(Property.ofValue(List.of("urn:li:activity:123456789")))
+            .build();
+
+        var runContext = runContextFactory.of(Map.of());
+        assertThat(runContext.render(trigger.getBatchSize()).as(Integer.class).orElseThrow(), equalTo(1));
+        assertThat(trigger.getInterval(), equalTo(Duration.ofMinutes(30)));
+    }
+
+    @Test
+    void shouldFailOnNonTransientErrors() throws Exception {
+        CommentRealtimeTrigger trigger = CommentRealtimeTrigger.builder()
+            .id("forbidden-trigger")
+            .type(CommentRealtimeTrigger.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .postUrns(Property.ofValue(List.of("urn:li:activity:forbidden")))
+            .build();
+
+        Map.Entry<ConditionContext, Trigger> mocked = TestsUtils.mockTrigger(runContextFactory, trigger);
+
+        // a 403 won't go away on the next poll, so it ends the trigger instead of being retried silently
+        RuntimeException e = assertThrows(
+            RuntimeException.class,
+            () -> Flux.from(trigger.evaluate(mocked.getKey(), mocked.getValue())).blockFirst(Duration.ofSeconds(30))
+        );
+        assertThat(Exceptions.unwrap(e), instanceOf(HttpClientResponseException.class));
+        assertThat(CommentRealtimeTrigger.isTransient(new IllegalStateException("timeout")), is(true));
+    }
+
+    @Test
+    void shouldSplitCommentsInOrderedBatches() {
+        List<CommentTrigger.CommentData> comments = List.of(
+            comment("c3", 3000L),
+            comment("c1", 1000L),
+            comment("c2", 2000L)
+        );
+
+        var batches = CommentRealtimeTrigger.batches(comments, 2);
+
+        assertThat(batches, hasSize(2));
+        assertThat(batches.getFirst().stream().map(CommentTrigger.CommentData::getCommentId).toList(), contains("c1", "c2"));
+        assertThat(batches.getLast().stream().map(CommentTrigger.CommentData::getCommentId).toList(), contains("c3"));
+    }
+
+    @Test
+    void shouldEmitOneBatchPerComment() {
+        var batches = CommentRealtimeTrigger.batches(List.of(comment("c1", 1000L), comment("c2", 2000L)), 1);
+
+        assertThat(batches, hasSize(2));
+        assertThat(CommentRealtimeTrigger.batches(List.of(), 1), empty());
+    }
+
+    @Test
+    void shouldRejectInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> CommentRealtimeTrigger.batches(List.of(), 0));
+    }
+
+    private static CommentTrigger.CommentData comment(String id, long createdTime) {
+        return CommentTrigger.CommentData.builder()
+            .postUrn("urn:li:activity:1")
+            .commentId(id)
+            .commentText("text " + id)
+            .createdTime(Instant.ofEpochMilli(createdTime))
+            .build();
+    }
+}
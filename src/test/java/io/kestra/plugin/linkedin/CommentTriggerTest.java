@@ -1,17 +1,26 @@
 package io.kestra.plugin.linkedin;
 
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
 
+import io.micronaut.runtime.server.EmbeddedServer;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -22,6 +31,15 @@ class CommentTriggerTest {
     @Inject
     private RunContextFactory runContextFactory;
 
+    @Inject
+    private EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
     @Test
     void testTaskBuilderDefaults() throws IllegalVariableEvaluationException {
         RunContext runContext = runContextFactory.of(Map.of());
@@ -72,4 +90,31 @@ class CommentTriggerTest {
         assertThat(urns, contains("urn:li:activity:42"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldNotEmitTheSameCommentTwiceAcrossOverlappingWindows() throws Exception {
+        CommentTrigger trigger = CommentTrigger.builder()
+            .id("dedup_" + IdUtils.create())
+            .type(CommentTrigger.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .postUrns(Property.ofValue(List.of("urn:li:activity:1")))
+            .interval(Duration.ofHours(1))
+            .deduplicate(Property.ofValue(true))
+            .build();
+
+        Map.Entry<ConditionContext, Trigger> mocked = TestsUtils.mockTrigger(runContextFactory, trigger);
+        // the stubbed comments were created between 22:13 and 22:47
+        Trigger first = mocked.getValue().toBuilder().nextExecutionDate(ZonedDateTime.parse("2023-11-15T00:00:00Z")).build();
+
+        Optional<Execution> execution = trigger.evaluate(mocked.getKey(), first);
+        assertThat(execution.isPresent(), is(true));
+        assertThat((Integer) execution.get().getTrigger().getVariables().get("newCommentsCount"), greaterThan(0));
+
+        // a retried evaluation of the same window
+        assertThat(trigger.evaluate(mocked.getKey(), first).isPresent(), is(false));
+
+        // the next window, whose look-back overlaps the comments already emitted
+        Trigger next = mocked.getValue().toBuilder().nextExecutionDate(ZonedDateTime.parse("2023-11-15T00:20:00Z")).build();
+        assertThat(trigger.evaluate(mocked.getKey(), next).isPresent(), is(false));
+    }
+}
@@ -0,0 +1,177 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.linkedin.stubs.LinkedInPostsStubController;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class CreatePostsTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
+    @Test
+    void shouldUploadMediaConcurrentlyAndCreatePostsInOrder() throws Exception {
+        CreatePosts.CreatePostsBuilder<?, ?> builder = CreatePosts.builder()
+            .id("create-posts")
+            .type(CreatePosts.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .author(Property.ofValue("urn:li:organization:2414183"));
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, builder.build(), Map.of());
+        URI image = this.upload(runContext, ".png", 16);
+        URI video = this.upload(runContext, ".mp4", 25);
+
+        CreatePosts task = builder
+            .posts(Property.ofValue(List.of(
+                CreatePosts.PostInput.builder().commentary("with image").media(image.toString()).altText("banner").build(),
+                CreatePosts.PostInput.builder().commentary("with video").media(video.toString()).build(),
+                CreatePosts.PostInput.builder().commentary("text only").build()
+            )))
+            .build();
+
+        int before = LinkedInPostsStubController.CREATED_POSTS.size();
+        var output = task.run(runContext);
+
+        assertThat(output.getPostsCount(), equalTo(3));
+        assertThat(output.getPosts().get(0).getMediaUrn(), startsWith("urn:li:image:"));
+        assertThat(output.getPosts().get(1).getMediaUrn(), startsWith("urn:li:video:"));
+        assertThat(output.getPosts().get(2).getMediaUrn(), nullValue());
+        assertThat(output.getPosts().stream().map(CreatePosts.CreatedPost::getPostUrn).distinct().toList(), hasSize(3));
+
+        // the slow image upload holds back the next posts, so they are still created in order
+        assertThat(
+            LinkedInPostsStubController.CREATED_POSTS.subList(before, before + 3),
+            contains("with image", "with video", "text only")
+        );
+    }
+
+    @Test
+    void shouldReportThePostsPublishedBeforeAFailure() {
+        CreatePosts task = CreatePosts.builder()
+            .id("create-posts")
+            .type(CreatePosts.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .author(Property.ofValue("urn:li:organization:2414183"))
+            .posts(Property.ofValue(List.of(
+                CreatePosts.PostInput.builder().commentary("published").build(),
+                CreatePosts.PostInput.builder().commentary("rejected").build(),
+                CreatePosts.PostInput.builder().commentary("never sent").build()
+            )))
+            .build();
+
+        CreatePosts.PartiallyPublishedException exception = assertThrows(
+            CreatePosts.PartiallyPublishedException.class,
+            () -> task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()))
+        );
+
+        assertThat(exception.getCreatedPosts(), hasSize(1));
+        assertThat(exception.getMessage(), containsString(exception.getCreatedPosts().getFirst().getPostUrn()));
+        assertThat(LinkedInPostsStubController.CREATED_POSTS, not(hasItem("never sent")));
+    }
+
+    @Test
+    void shouldNotPublishAgainWithAnotherToken() {
+        CreatePosts task = CreatePosts.builder()
+            .id("create-posts")
+            .type(CreatePosts.class.getName())
+            .accessTokens(Property.ofValue(List.of("token-" + IdUtils.create(), "token-" + IdUtils.create())))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .author(Property.ofValue("urn:li:organization:2414183"))
+            .posts(Property.ofValue(List.of(CreatePosts.PostInput.builder().commentary("throttled").build())))
+            .build();
+
+        int before = LinkedInPostsStubController.THROTTLED_POSTS.get();
+        assertThrows(Exception.class, () -> task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of())));
+
+        // LinkedIn may have published the post before throttling, it is not sent again with the second token
+        assertThat(LinkedInPostsStubController.THROTTLED_POSTS.get() - before, equalTo(1));
+    }
+
+    @Test
+    void shouldBuildPostBody() {
+        Map<String, Object> body = CreatePosts.postBody(
+            CreatePosts.PostInput.builder().commentary("hello").mediaTitle("title").build(),
+            "urn:li:image:1",
+            "urn:li:person:abc",
+            CreatePosts.Visibility.PUBLIC
+        );
+
+        assertThat(body, hasEntry("author", "urn:li:person:abc"));
+        assertThat(body, hasEntry("visibility", "PUBLIC"));
+        assertThat(body, hasEntry("content", Map.of("media", Map.of("id", "urn:li:image:1", "title", "title"))));
+        assertThat(CreatePosts.MediaType.of(URI.create("kestra:///company/team/clip.MP4")), equalTo(CreatePosts.MediaType.VIDEO));
+        assertThat(CreatePosts.MediaType.of(URI.create("kestra:///company/team/banner.png")), equalTo(CreatePosts.MediaType.IMAGE));
+    }
+
+    @Test
+    void shouldStreamVideoPartRanges() throws Exception {
+        Path file = Files.createTempFile("video", ".mp4");
+        try {
+            Files.write(file, new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+            try (FileChannel channel = FileChannel.open(file)) {
+                try (InputStream part = new CreatePosts.PartInputStream(channel, 3, 7)) {
+                    assertThat(part.readAllBytes(), equalTo(new byte[] {3, 4, 5, 6}));
+                }
+
+                try (InputStream part = new CreatePosts.PartInputStream(channel, 8, 12)) {
+                    assertThrows(EOFException.class, part::readAllBytes);
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRequireAnAuthor() {
+        CreatePosts task = CreatePosts.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .posts(Property.ofValue(List.of(CreatePosts.PostInput.builder().commentary("hello").build())))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of(Map.of())));
+    }
+
+    private URI upload(RunContext runContext, String extension, int size) throws Exception {
+        File file = runContext.workingDir().createTempFile(extension).toFile();
+        Files.write(file.toPath(), new byte[size]);
+        return runContext.storage().putFile(file);
+    }
+}
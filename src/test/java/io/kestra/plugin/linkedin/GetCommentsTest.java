@@ -0,0 +1,78 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class GetCommentsTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
+    @Test
+    void shouldFetchCommentsAndReplies() throws Exception {
+        GetComments task = task(2);
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        var output = task.run(runContext);
+
+        assertThat(output.getCommentsCount(), equalTo(3L));
+        assertThat(output.getRequestsCount(), equalTo(2));
+
+        try (var reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+            List<Map<?, ?>> comments = FileSerde.readAll(reader).map(row -> (Map<?, ?>) row).collectList().block();
+            var reply = comments.stream().filter(row -> "300".equals(row.get("commentId"))).findFirst().orElseThrow();
+
+            assertThat(reply.get("depth"), equalTo(2));
+            assertThat(reply.get("parentCommentUrn"), equalTo("urn:li:comment:(activity:1,100)"));
+        }
+    }
+
+    @Test
+    void shouldStopAtMaxDepth() throws Exception {
+        GetComments task = task(1);
+
+        var output = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(output.getCommentsCount(), equalTo(2L));
+        assertThat(output.getRequestsCount(), equalTo(1));
+    }
+
+    private GetComments task(int maxDepth) {
+        return GetComments.builder()
+            .id("get-comments")
+            .type(GetComments.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .postUrns(Property.ofValue(List.of("urn:li:activity:1")))
+            .maxDepth(Property.ofValue(maxDepth))
+            .maxRequestsPerSecond(Property.ofValue(100.0))
+            .build();
+    }
+}
@@ -0,0 +1,151 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class GetOrganizationPageStatisticsTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
+    @Test
+    void shouldCacheFinalBucketsAndOnlyRefetchOpenOnes() throws Exception {
+        Instant now = Instant.now();
+        GetOrganizationPageStatistics task = GetOrganizationPageStatistics.builder()
+            .id("follower-statistics")
+            .type(GetOrganizationPageStatistics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .organizationUrn(Property.ofValue("urn:li:organization:" + IdUtils.create()))
+            .statistics(Property.ofValue(GetOrganizationPageStatistics.Statistics.FOLLOWER))
+            .startTime(Property.ofValue(ZonedDateTime.parse(now.minus(Duration.ofDays(20)).toString())))
+            .bucketSize(Property.ofValue(Duration.ofDays(5)))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var first = task.run(runContext);
+        var second = task.run(runContext);
+
+        assertThat(first.getCachedBucketsCount(), equalTo(0));
+        assertThat(second.getCachedBucketsCount(), greaterThan(0));
+        assertThat(second.getRequestsCount() + second.getCachedBucketsCount(), equalTo(first.getRequestsCount()));
+        assertThat(second.getRowsCount(), equalTo(first.getRowsCount()));
+
+        try (var reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(second.getUri())))) {
+            List<Object> rows = FileSerde.readAll(reader).collectList().block();
+            Map<?, ?> row = (Map<?, ?>) rows.getFirst();
+            assertThat(rows, hasSize(second.getRowsCount().intValue()));
+            assertThat(((Number) row.get("organicFollowerGain")).longValue(), equalTo(3L));
+            assertThat(row.get("start"), notNullValue());
+        }
+    }
+
+    @Test
+    void shouldNotCacheEmptyBuckets() throws Exception {
+        GetOrganizationPageStatistics task = GetOrganizationPageStatistics.builder()
+            .id("empty-statistics")
+            .type(GetOrganizationPageStatistics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .organizationUrn(Property.ofValue("urn:li:organization:" + IdUtils.create() + ":empty"))
+            .statistics(Property.ofValue(GetOrganizationPageStatistics.Statistics.FOLLOWER))
+            .startTime(Property.ofValue(ZonedDateTime.parse("2025-01-01T00:00:00Z")))
+            .endTime(Property.ofValue(ZonedDateTime.parse("2025-01-11T00:00:00Z")))
+            .bucketSize(Property.ofValue(Duration.ofDays(5)))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var first = task.run(runContext);
+        var second = task.run(runContext);
+
+        assertThat(first.getRowsCount(), equalTo(0L));
+        assertThat(second.getCachedBucketsCount(), equalTo(0));
+        assertThat(second.getRequestsCount(), equalTo(first.getRequestsCount()));
+    }
+
+    @Test
+    void shouldKeyTheCacheByApiVersion() {
+        TimeBucket bucket = new TimeBucket(Instant.EPOCH, Instant.EPOCH.plus(Duration.ofDays(5)));
+
+        assertThat(
+            GetOrganizationPageStatistics.cacheKey("202509", GetOrganizationPageStatistics.Statistics.PAGE, "urn:li:organization:2414183", bucket),
+            not(equalTo(GetOrganizationPageStatistics.cacheKey("202510", GetOrganizationPageStatistics.Statistics.PAGE, "urn:li:organization:2414183", bucket)))
+        );
+    }
+
+    @Test
+    void shouldFlattenPageStatistics() throws Exception {
+        GetOrganizationPageStatistics task = GetOrganizationPageStatistics.builder()
+            .id("page-statistics")
+            .type(GetOrganizationPageStatistics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .organizationUrn(Property.ofValue("urn:li:organization:2414183"))
+            .statistics(Property.ofValue(GetOrganizationPageStatistics.Statistics.PAGE))
+            .startTime(Property.ofValue(ZonedDateTime.parse("2025-01-01T00:00:00Z")))
+            .endTime(Property.ofValue(ZonedDateTime.parse("2025-01-04T00:00:00Z")))
+            .cacheFinalBuckets(Property.ofValue(false))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        // the whole aligned bucket is fetched, only the requested days are written
+        assertThat(output.getRowsCount(), equalTo(3L));
+
+        try (var reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+            Map<?, ?> row = (Map<?, ?>) FileSerde.readAll(reader).collectList().block().getFirst();
+            assertThat(((Number) row.get("views.allPageViews.pageViews")).longValue(), equalTo(40L));
+            assertThat(((Number) row.get("clicks.careersPageClicks.careersPagePromoLinksClicks")).longValue(), equalTo(2L));
+        }
+    }
+
+    @Test
+    void shouldAlignBucketsOnTheEpoch() {
+        var buckets = GetOrganizationPageStatistics.alignedBuckets(
+            Instant.parse("2025-01-02T12:00:00Z"),
+            Instant.parse("2025-01-09T00:00:00Z"),
+            Duration.ofDays(5)
+        );
+
+        assertThat(buckets, hasSize(2));
+        assertThat(buckets.getFirst().start().toEpochMilli() % Duration.ofDays(5).toMillis(), equalTo(0L));
+        assertThat(buckets.getLast().end().isAfter(Instant.parse("2025-01-09T00:00:00Z")), is(true));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> GetOrganizationPageStatistics.alignedBuckets(Instant.EPOCH, Instant.EPOCH.plusSeconds(10), Duration.ofHours(12))
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class GetOrganizationShareStatisticsTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
+    @Test
+    void shouldSplitTimeRangeInBucketsAndStoreRows() throws Exception {
+        GetOrganizationShareStatistics task = GetOrganizationShareStatistics.builder()
+            .id("share-statistics")
+            .type(GetOrganizationShareStatistics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .organizationUrn(Property.ofValue("urn:li:organization:2414183"))
+            .startTime(Property.ofValue(ZonedDateTime.parse("2025-01-01T00:00:00Z")))
+            .endTime(Property.ofValue(ZonedDateTime.parse("2025-01-11T00:00:00Z")))
+            .bucketSize(Property.ofValue(Duration.ofDays(5)))
+            .build();
+
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        var output = task.run(runContext);
+
+        assertThat(output.getRequestsCount(), equalTo(2));
+        assertThat(output.getRowsCount(), equalTo(2L));
+
+        try (var reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(output.getUri())))) {
+            List<Object> rows = FileSerde.readAll(reader).collectList().block();
+            assertThat(rows, hasSize(2));
+            assertThat(((Map<?, ?>) rows.getFirst()).get("organizationUrn"), equalTo("urn:li:organization:2414183"));
+        }
+    }
+
+    @Test
+    void shouldBatchPostsByType() {
+        String url = GetOrganizationShareStatistics.queryPath(
+            "urn:li:organization:1",
+            List.of("urn:li:share:1", "urn:li:ugcPost:2"),
+            new TimeBucket(Instant.ofEpochMilli(1000), Instant.ofEpochMilli(2000)),
+            GetOrganizationShareStatistics.TimeGranularity.DAY
+        );
+
+        assertThat(url, containsString("timeIntervals=(timeRange:(start:1000,end:2000),timeGranularityType:DAY)"));
+        assertThat(url, containsString("shares=List(urn%3Ali%3Ashare%3A1)"));
+        assertThat(url, containsString("ugcPosts=List(urn%3Ali%3AugcPost%3A2)"));
+        assertThat(GetOrganizationShareStatistics.batches(List.of("a", "b", "c"), 2), hasSize(2));
+    }
+
+    @Test
+    void shouldRejectUnsupportedPostUrns() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> GetOrganizationShareStatistics.queryPath(
+                "urn:li:organization:1",
+                List.of("urn:li:share:1", "urn:li:activity:2"),
+                null,
+                GetOrganizationShareStatistics.TimeGranularity.DAY
+            )
+        );
+    }
+
+    @Test
+    void shouldAlignMonthlyBucketsOnMonths() {
+        var buckets = TimeBucket.splitMonths(
+            ZonedDateTime.parse("2025-01-15T00:00:00Z"),
+            Instant.parse("2025-04-10T00:00:00Z"),
+            Duration.ofDays(30)
+        );
+
+        assertThat(buckets, hasSize(4));
+        assertThat(buckets.get(0), equalTo(new TimeBucket(Instant.parse("2025-01-15T00:00:00Z"), Instant.parse("2025-02-01T00:00:00Z"))));
+        assertThat(buckets.get(1), equalTo(new TimeBucket(Instant.parse("2025-02-01T00:00:00Z"), Instant.parse("2025-03-01T00:00:00Z"))));
+        assertThat(buckets.get(3).end(), equalTo(Instant.parse("2025-04-10T00:00:00Z")));
+    }
+
+    @Test
+    void shouldSplitTimeBuckets() {
+        var buckets = TimeBucket.split(
+            Instant.parse("2025-01-01T00:00:00Z"),
+            Instant.parse("2025-01-08T00:00:00Z"),
+            Duration.ofDays(3)
+        );
+
+        assertThat(buckets, hasSize(3));
+        assertThat(buckets.getLast().end(), equalTo(Instant.parse("2025-01-08T00:00:00Z")));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TimeBucket.split(Instant.EPOCH, Instant.EPOCH, Duration.ofDays(1))
+        );
+    }
+}
@@ -1,20 +1,32 @@
 package io.kestra.plugin.linkedin;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.kestra.core.junit.annotations.KestraTest;
 import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
 
 import io.micronaut.runtime.server.EmbeddedServer;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @KestraTest
 class GetPostAnalyticsTest {
@@ -67,4 +79,274 @@ class GetPostAnalyticsTest {
         assertThat(r1.getCreatedTime(), equalTo(1700000000000L));
         assertThat(r1.getLastModifiedTime(), equalTo(1700000005000L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldKeepReactionsCompactWithoutChangingTheirSerialization() throws Exception {
+        String activityUrn = "urn:li:activity:123456789";
+
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of(activityUrn)))
+            .build();
+
+        var reactions = task.run(runContextFactory.of(Map.of())).getPosts().getFirst().getReactions();
+
+        // the reactions of the same post share a single copy of its URN
+        assertThat(reactions.get(0).getRootUrn(), sameInstance(reactions.get(1).getRootUrn()));
+
+        Map<String, Object> known = JacksonMapper.toMap(reactions.get(0));
+        assertThat(known, allOf(
+            hasEntry("reactionType", (Object) "LIKE"),
+            hasEntry("createdTime", (Object) 1700000000000L),
+            not(hasKey("type")),
+            not(hasKey("unknownType"))
+        ));
+
+        // types unknown to the plugin are still reported as is
+        assertThat(JacksonMapper.toMap(reactions.get(1)), hasEntry("reactionType", (Object) "CELEBRATE"));
+
+        GetPostAnalytics.ReactionData withoutTime = GetPostAnalytics.ReactionData.builder().reactionId("r3").build();
+        assertThat(withoutTime.getCreatedTime(), nullValue());
+        assertThat(JacksonMapper.toMap(withoutTime), not(hasKey("createdTime")));
+    }
+
+    @Test
+    void shouldOnlyKeepAggregatesInAggregationMode() throws Exception {
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of("urn:li:activity:123456789")))
+            .aggregation(Property.ofValue(GetPostAnalytics.Aggregation.HOURLY))
+            .build();
+
+        var post = task.run(runContextFactory.of(Map.of())).getPosts().getFirst();
+
+        assertThat(post.getReactions(), nullValue());
+        assertThat(post.getTotalReactions(), equalTo(2));
+        assertThat(post.getReactionsSummary(), allOf(hasEntry("LIKE", 1), hasEntry("CELEBRATE", 1)));
+        assertThat(post.getHistogram().getBucketStarts(), equalTo(new long[]{1699999200000L}));
+        assertThat(post.getHistogram().getCounts(), equalTo(new int[]{2}));
+    }
+
+    @Test
+    void shouldKeepUrnOrderWhenFetchingConcurrently() throws Exception {
+        List<String> activityUrns = IntStream.range(0, 20).mapToObj(i -> "urn:li:activity:" + i).toList();
+
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(activityUrns))
+            .concurrency(Property.ofValue(8))
+            .build();
+
+        var out = task.run(runContextFactory.of(Map.of()));
+
+        assertThat(out.getTotalPosts(), equalTo(20));
+        assertThat(out.getPosts().stream().map(GetPostAnalytics.PostReactionsData::getActivityUrn).toList(), equalTo(activityUrns));
+    }
+
+    @Test
+    void shouldStopOnDeadlineAndResumeFromCursor() throws Exception {
+        List<String> activityUrns = List.of("urn:li:activity:1", "urn:li:activity:2", "urn:li:activity:3");
+
+        GetPostAnalytics expired = GetPostAnalytics.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(activityUrns))
+            .maxDuration(Property.ofValue(Duration.ofNanos(1)))
+            .build();
+
+        var stopped = expired.run(runContextFactory.of(Map.of()));
+        assertThat(stopped.getTotalPosts(), equalTo(0));
+        assertThat(stopped.getResumeCursor(), equalTo(0));
+
+        GetPostAnalytics resumed = GetPostAnalytics.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(activityUrns))
+            .maxDuration(Property.ofValue(Duration.ofMinutes(5)))
+            .resumeCursor(Property.ofValue(2))
+            .build();
+
+        var out = resumed.run(runContextFactory.of(Map.of()));
+        assertThat(out.getTotalPosts(), equalTo(1));
+        assertThat(out.getPosts().getFirst().getActivityUrn(), equalTo("urn:li:activity:3"));
+        assertThat(out.getResumeCursor(), nullValue());
+    }
+
+    @Test
+    void shouldFetchHigherPriorityPostsFirst() throws Exception {
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of("urn:li:activity:1", "urn:li:activity:2", "urn:li:activity:3")))
+            .priorities(Property.ofValue(Map.of("urn:li:activity:3", 10)))
+            .concurrency(Property.ofValue(1))
+            .maxRequestsPerSecond(Property.ofValue(50.0))
+            .build();
+
+        var out = task.run(runContextFactory.of(Map.of()));
+
+        assertThat(
+            out.getPosts().stream().map(GetPostAnalytics.PostReactionsData::getActivityUrn).toList(),
+            contains("urn:li:activity:3", "urn:li:activity:1", "urn:li:activity:2")
+        );
+    }
+
+    @Test
+    void shouldRejectPrioritiesWithResumeCursor() {
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of("urn:li:activity:1", "urn:li:activity:2")))
+            .prioritizeRecentPosts(Property.ofValue(true))
+            .resumeCursor(Property.ofValue(1))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(runContextFactory.of(Map.of())));
+    }
+
+    @Test
+    void shouldOnlyReportNewReactionsInIncrementalMode() throws Exception {
+        String activityUrn = "urn:li:activity:987654321";
+
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .id("incremental-" + IdUtils.create())
+            .type(GetPostAnalytics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of(activityUrn)))
+            .incremental(Property.ofValue(true))
+            .snapshotKeyPrefix(Property.ofValue("test_" + IdUtils.create()))
+            .build();
+
+        var first = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        assertThat(first.getTotalNewReactions(), equalTo(2));
+        assertThat(first.getPosts().getFirst().getReactionsDelta(), allOf(hasEntry("LIKE", 1), hasEntry("CELEBRATE", 1)));
+
+        var second = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        var post = second.getPosts().getFirst();
+        assertThat(second.getTotalNewReactions(), equalTo(0));
+        assertThat(post.getReactions(), empty());
+        assertThat(post.getTotalReactions(), equalTo(2));
+        assertThat(post.getReactionsSummary(), allOf(hasEntry("LIKE", 1), hasEntry("CELEBRATE", 1)));
+    }
+
+    @Test
+    void shouldCountReactionsOfTheSameMillisecondSplitAcrossRuns() throws Exception {
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .id("incremental-" + IdUtils.create())
+            .type(GetPostAnalytics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of("urn:li:activity:same-millisecond-" + IdUtils.create())))
+            .incremental(Property.ofValue(true))
+            .snapshotKeyPrefix(Property.ofValue("test_" + IdUtils.create()))
+            .build();
+
+        var first = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        var second = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+        var third = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        assertThat(first.getTotalNewReactions(), equalTo(1));
+        assertThat(second.getTotalNewReactions(), equalTo(1));
+        assertThat(second.getPosts().getFirst().getReactions().getFirst().getReactionId(), equalTo("r2"));
+        assertThat(third.getTotalNewReactions(), equalTo(0));
+        assertThat(third.getPosts().getFirst().getTotalReactions(), equalTo(2));
+    }
+
+    @Test
+    void shouldNotSaveSnapshotsOfAFailedRun() throws Exception {
+        String activityUrn = "urn:li:activity:987654322";
+        String snapshotKeyPrefix = "test_" + IdUtils.create();
+
+        GetPostAnalytics failing = GetPostAnalytics.builder()
+            .id("incremental-" + IdUtils.create())
+            .type(GetPostAnalytics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of(activityUrn, "urn:li:activity:invalid")))
+            .incremental(Property.ofValue(true))
+            .snapshotKeyPrefix(Property.ofValue(snapshotKeyPrefix))
+            .concurrency(Property.ofValue(1))
+            .build();
+        assertThrows(RuntimeException.class, () -> failing.run(TestsUtils.mockRunContext(runContextFactory, failing, Map.of())));
+
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .id("incremental-" + IdUtils.create())
+            .type(GetPostAnalytics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of(activityUrn)))
+            .incremental(Property.ofValue(true))
+            .snapshotKeyPrefix(Property.ofValue(snapshotKeyPrefix))
+            .build();
+        var out = task.run(TestsUtils.mockRunContext(runContextFactory, task, Map.of()));
+
+        // the reactions fetched by the failed run are still reported as new
+        assertThat(out.getTotalNewReactions(), equalTo(2));
+    }
+
+    @Test
+    void shouldSaveCheckpointSnapshotsOncePerChunk() throws Exception {
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .id("checkpoint-" + IdUtils.create())
+            .type(GetPostAnalytics.class.getName())
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        ReactionSnapshot snapshot = new ReactionSnapshot(1700000000000L, Set.of("r1"), 1, Map.of("LIKE", 1));
+
+        try (PostAnalyticsCheckpoint previous = PostAnalyticsCheckpoint.load(runContext, 1)) {
+            previous.record(Map.of("activityUrn", "urn:li:activity:1"), "snapshot.1", snapshot, 1, 1, 1, 1);
+            previous.record(Map.of("activityUrn", "urn:li:activity:2"), "snapshot.2", snapshot, 2, 2, 2, 2);
+        }
+
+        // the checkpoint only references the snapshots saved with each chunk
+        Map<?, ?> state = (Map<?, ?>) runContext.namespaceKv(runContext.flowInfo().namespace()).getValue(PostAnalyticsCheckpoint.key(runContext)).orElseThrow().value();
+        assertThat(state.containsKey("snapshots"), is(false));
+        assertThat((List<?>) state.get("snapshotChunks"), hasSize(2));
+
+        try (PostAnalyticsCheckpoint resumed = PostAnalyticsCheckpoint.load(runContext, 1)) {
+            assertThat(resumed.getSnapshots().keySet(), contains("snapshot.1", "snapshot.2"));
+            assertThat(resumed.getSnapshots().get("snapshot.2").getLastReactionKeys(), contains("r1"));
+            resumed.delete();
+        }
+    }
+
+    @Test
+    void shouldResumeFromCheckpoint() throws Exception {
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .id("checkpoint-" + IdUtils.create())
+            .type(GetPostAnalytics.class.getName())
+            .accessToken(Property.ofValue("test-access-token"))
+            .apiBaseUrl(Property.ofValue(server.getURI().toString()))
+            .activityUrns(Property.ofValue(List.of("urn:li:activity:1", "urn:li:activity:2", "urn:li:activity:3")))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .checkpoint(Property.ofValue(true))
+            .build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+
+        // a previous attempt fetched the first two posts before dying
+        try (PostAnalyticsCheckpoint previous = PostAnalyticsCheckpoint.load(runContext, 10)) {
+            previous.record(Map.of("activityUrn", "urn:li:activity:1"), null, null, 1, 1, 2, 0);
+            previous.record(Map.of("activityUrn", "urn:li:activity:2"), null, null, 2, 2, 4, 0);
+            previous.save();
+        }
+
+        var out = task.run(runContext);
+
+        assertThat(out.getTotalPosts(), equalTo(3));
+        assertThat(out.getTotalReactions(), equalTo(6));
+        try (var reader = new BufferedReader(new InputStreamReader(runContext.storage().getFile(out.getUri())))) {
+            List<Object> posts = FileSerde.readAll(reader).collectList().block();
+            assertThat(posts, hasSize(3));
+            assertThat(((Map<?, ?>) posts.getLast()).get("activityUrn"), equalTo("urn:li:activity:3"));
+        }
+
+        assertThat(
+            runContext.namespaceKv(runContext.flowInfo().namespace()).getValue(PostAnalyticsCheckpoint.key(runContext)).isPresent(),
+            is(false)
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package io.kestra.plugin.linkedin;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinkedinCassetteTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReplayScrubbedRecordings() throws Exception {
+        LinkedinCassette recorder = new LinkedinCassette(LinkedinCassette.Mode.RECORD, this.directory, Duration.ZERO);
+        recorder.record(
+            "202509",
+            "/reactions/(entity:urn%3Ali%3Aactivity%3A1)?q=entity",
+            "{\"elements\":[{\"id\":\"r1\"}],\"access_token\":\"secret-value\"}".getBytes(StandardCharsets.UTF_8)
+        );
+
+        Path file = recorder.file("202509", "/reactions/(entity:urn%3Ali%3Aactivity%3A1)?q=entity");
+        assertThat(Files.readString(file), not(containsString("secret-value")));
+
+        LinkedinCassette player = new LinkedinCassette(LinkedinCassette.Mode.REPLAY, this.directory, Duration.ofMillis(50));
+        long start = System.nanoTime();
+        JsonNode first = player.replay("202509", "/reactions/(entity:urn%3Ali%3Aactivity%3A1)?q=entity");
+        JsonNode second = player.replay("202509", "/reactions/(entity:urn%3Ali%3Aactivity%3A1)?q=entity");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), greaterThanOrEqualTo(100L));
+        assertThat(first.path("elements").get(0).path("id").asText(), equalTo("r1"));
+        assertThat(second, equalTo(first));
+        assertThat(first.path("access_token").asText(), equalTo("****"));
+    }
+
+    @Test
+    void shouldFailOnMissingRecordings() {
+        LinkedinCassette player = new LinkedinCassette(LinkedinCassette.Mode.REPLAY, this.directory, Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> player.replay("202509", "/posts?q=author"));
+    }
+
+    @Test
+    void shouldBeOffByDefault() {
+        assertThat(LinkedinCassette.active(), nullValue());
+    }
+
+    @Test
+    void shouldAnswerRequestsFromTheInstalledCassette() throws Exception {
+        String pathAndQuery = "/posts?q=author&author=urn%3Ali%3Aorganization%3A1";
+        new LinkedinCassette(LinkedinCassette.Mode.RECORD, this.directory, Duration.ZERO)
+            .record("202509", pathAndQuery, "{\"elements\":[{\"id\":\"urn:li:share:1\"}]}".getBytes(StandardCharsets.UTF_8));
+
+        LinkedinCassette.use(new LinkedinCassette(LinkedinCassette.Mode.REPLAY, this.directory, Duration.ZERO));
+        try {
+            // nothing listens on the base URL, the answer can only come from the recording
+            JsonNode answer = LinkedinRequestTemplate.of("http://localhost:1", "202509").fetchJson(null, pathAndQuery);
+
+            assertThat(answer.path("elements").get(0).path("id").asText(), equalTo("urn:li:share:1"));
+        } finally {
+            LinkedinCassette.use(null);
+        }
+    }
+}
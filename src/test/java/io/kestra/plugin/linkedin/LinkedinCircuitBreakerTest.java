@@ -0,0 +1,104 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinkedinCircuitBreakerTest {
+    @Test
+    void shouldOpenOnOutagesAndCloseAfterProbe() throws Exception {
+        LinkedinCircuitBreaker breaker = new LinkedinCircuitBreaker("test", Duration.ofMillis(200));
+
+        for (int i = 0; i < LinkedinCircuitBreaker.MIN_CALLS; i++) {
+            assertThrows(IOException.class, () -> breaker.call(() -> {
+                throw new IOException("connection reset");
+            }));
+        }
+
+        assertThat(breaker.state(), is(LinkedinCircuitBreaker.State.OPEN));
+        assertThrows(LinkedinCircuitBreaker.OpenException.class, () -> breaker.call(() -> "not sent"));
+
+        Thread.sleep(300);
+
+        assertThat(breaker.call(() -> "probe"), equalTo("probe"));
+        assertThat(breaker.state(), is(LinkedinCircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void shouldOnlyCloseOnTheProbeResult() throws Exception {
+        LinkedinCircuitBreaker breaker = new LinkedinCircuitBreaker("test", Duration.ofMillis(200));
+
+        // a slow call started while the breaker is closed
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> {
+            try {
+                return breaker.call(() -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return "slow";
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        for (int i = 0; i < LinkedinCircuitBreaker.MIN_CALLS; i++) {
+            assertThrows(IOException.class, () -> breaker.call(() -> {
+                throw new IOException("connection reset");
+            }));
+        }
+        assertThat(breaker.state(), is(LinkedinCircuitBreaker.State.OPEN));
+
+        Thread.sleep(300);
+
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch failProbe = new CountDownLatch(1);
+        CompletableFuture<Void> probe = CompletableFuture.runAsync(() -> assertThrows(IOException.class, () -> breaker.call(() -> {
+            probing.countDown();
+            failProbe.await(5, TimeUnit.SECONDS);
+            throw new IOException("still down");
+        })));
+        assertThat(probing.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(breaker.state(), is(LinkedinCircuitBreaker.State.HALF_OPEN));
+
+        // the call started before the breaker opened succeeds, it must not be taken as the probe result
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS), equalTo("slow"));
+        assertThat(breaker.state(), is(LinkedinCircuitBreaker.State.HALF_OPEN));
+
+        failProbe.countDown();
+        probe.get(5, TimeUnit.SECONDS);
+        assertThat(breaker.state(), is(LinkedinCircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void shouldIgnoreClientErrors() {
+        LinkedinCircuitBreaker breaker = new LinkedinCircuitBreaker("test", Duration.ofMinutes(1));
+
+        for (int i = 0; i < LinkedinCircuitBreaker.WINDOW_SIZE; i++) {
+            assertThrows(IllegalArgumentException.class, () -> breaker.call(() -> {
+                throw new IllegalArgumentException("bad urn");
+            }));
+        }
+
+        assertThat(breaker.state(), is(LinkedinCircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void shouldKeyBreakersByEndpoint() {
+        assertThat(LinkedinCircuitBreaker.endpoint("/reactions/(entity:urn%3Ali%3Aactivity%3A1)?q=entity"), equalTo("/reactions"));
+        assertThat(LinkedinCircuitBreaker.endpoint("/people?ids=List((id:abc))"), equalTo("/people"));
+        assertThat(LinkedinCircuitBreaker.endpoint("/organizationsLookup"), equalTo("/organizationsLookup"));
+        assertThat(
+            LinkedinCircuitBreaker.of("https://api.linkedin.com/rest", "/posts?q=author"),
+            sameInstance(LinkedinCircuitBreaker.of("https://api.linkedin.com/rest", "/posts?q=author&start=50"))
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package io.kestra.plugin.linkedin;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class LinkedinConnectionTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Test
+    void shouldShareTheTokenPoolWithTheTemplate() throws Exception {
+        GetComments task = GetComments.builder()
+            .accessTokens(Property.ofValue(List.of("token-a", "token-b")))
+            .coalesceRequests(Property.ofValue(true))
+            .build();
+
+        LinkedinConnection connection = task.createLinkedinConnection(runContextFactory.of(Map.of()));
+
+        assertThat(connection.template().getTokenPool().size(), equalTo(2));
+        assertThat(connection.template().getCredential(), equalTo(connection.template().getTokenPool().identity()));
+        assertThat(connection.template().getCoalescingTtl(), equalTo(LinkedinConnection.DEFAULT_COALESCING_TTL));
+    }
+
+    @Test
+    void shouldRequireExactlyOneKindOfCredentials() {
+        GetComments missing = GetComments.builder().build();
+        GetComments both = GetComments.builder()
+            .accessToken(Property.ofValue("token"))
+            .accessTokens(Property.ofValue(List.of("token-a")))
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> missing.createLinkedinConnection(runContextFactory.of(Map.of())));
+        assertThrows(IllegalArgumentException.class, () -> both.createLinkedinConnection(runContextFactory.of(Map.of())));
+    }
+}
@@ -0,0 +1,130 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import io.kestra.core.utils.IdUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinkedinRequestCoalescerTest {
+    @Test
+    void shouldShareConcurrentIdenticalRequests() throws Exception {
+        String key = IdUtils.create();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<CompletableFuture<JsonNode>> results = IntStream.range(0, 8)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> {
+                        calls.incrementAndGet();
+                        release.await(5, TimeUnit.SECONDS);
+                        return TextNode.valueOf("answer");
+                    });
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }, executor))
+            .toList();
+
+        Thread.sleep(200);
+        release.countDown();
+
+        for (CompletableFuture<JsonNode> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).asText(), equalTo("answer"));
+        }
+        assertThat(calls.get(), equalTo(1));
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldGiveEachCallerItsOwnCopyOfTheAnswer() throws Exception {
+        String key = IdUtils.create();
+        ObjectNode answer = JsonNodeFactory.instance.objectNode().put("status", "answer");
+
+        JsonNode leader = LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> answer);
+        ((ObjectNode) leader).put("status", "modified by the leader");
+
+        JsonNode follower = LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> TextNode.valueOf("not called"));
+        ((ObjectNode) follower).put("status", "modified by a follower");
+
+        JsonNode nextFollower = LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> TextNode.valueOf("not called"));
+        assertThat(nextFollower.get("status").asText(), equalTo("answer"));
+        assertThat(nextFollower, not(sameInstance(follower)));
+    }
+
+    @Test
+    void shouldReuseAnswersWithinTtlButNotFailures() throws Exception {
+        String key = IdUtils.create();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("failed");
+        }));
+
+        JsonNode first = LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> TextNode.valueOf("call " + calls.incrementAndGet()));
+        JsonNode second = LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> TextNode.valueOf("call " + calls.incrementAndGet()));
+
+        assertThat(first.asText(), equalTo("call 2"));
+        assertThat(second, sameInstance(first));
+
+        JsonNode uncached = LinkedinRequestCoalescer.fetch(IdUtils.create(), Duration.ZERO, () -> TextNode.valueOf("call " + calls.incrementAndGet()));
+        assertThat(uncached.asText(), equalTo("call 3"));
+    }
+
+    @Test
+    void shouldForgetLeadersFailingWithAnError() throws Exception {
+        String key = IdUtils.create();
+
+        assertThrows(AssertionError.class, () -> LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> {
+            throw new AssertionError("failed");
+        }));
+
+        JsonNode retried = LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> TextNode.valueOf("answer"));
+        assertThat(retried.asText(), equalTo("answer"));
+    }
+
+    @Test
+    void shouldNotFailFollowersOfAnInterruptedLeader() throws Exception {
+        String key = IdUtils.create();
+        CountDownLatch leading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        CompletableFuture<JsonNode> leader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> {
+                    leading.countDown();
+                    throw new InterruptedException("cancelled");
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }, executor);
+        leading.await(5, TimeUnit.SECONDS);
+
+        JsonNode follower = LinkedinRequestCoalescer.fetch(key, Duration.ofMinutes(1), () -> TextNode.valueOf("own answer"));
+
+        assertThat(follower.asText(), equalTo("own answer"));
+        assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,86 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.http.HttpRequest;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinkedinRequestTemplateTest {
+    @Test
+    void shouldDeriveRequestsFromTemplate() {
+        LinkedinRequestTemplate template = LinkedinRequestTemplate.of("http://localhost:8080/rest/", "202601");
+
+        HttpRequest request = template.get("/posts?q=author");
+
+        assertThat(request.getUri().toString(), equalTo("http://localhost:8080/rest/posts?q=author"));
+        assertThat(request.getMethod(), equalTo("GET"));
+        assertThat(request.getHeaders().firstValue("LinkedIn-Version").orElse(null), equalTo("202601"));
+        assertThat(request.getHeaders().firstValue("X-Restli-Protocol-Version").orElse(null), equalTo("2.0.0"));
+    }
+
+    @Test
+    void shouldSendJsonBodyWithPost() {
+        LinkedinRequestTemplate template = LinkedinRequestTemplate.of("http://localhost:8080/rest", "202601");
+
+        HttpRequest request = template.post("/posts", Map.of("author", "urn:li:person:abc"));
+
+        assertThat(request.getMethod(), equalTo("POST"));
+        assertThat(request.getBody(), instanceOf(HttpRequest.JsonRequestBody.class));
+        assertThat(request.getHeaders().firstValue("LinkedIn-Version").orElse(null), equalTo("202601"));
+    }
+
+    @Test
+    void shouldDecodeCompressedBodies() throws Exception {
+        byte[] json = "{\"elements\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (OutputStream output = new GZIPOutputStream(gzip)) {
+            output.write(json);
+        }
+        ByteArrayOutputStream zlib = new ByteArrayOutputStream();
+        try (OutputStream output = new DeflaterOutputStream(zlib)) {
+            output.write(json);
+        }
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (OutputStream output = new DeflaterOutputStream(raw, new Deflater(Deflater.DEFAULT_COMPRESSION, true))) {
+            output.write(json);
+        }
+
+        assertThat(LinkedinRequestTemplate.decode(new ByteArrayInputStream(gzip.toByteArray()), "gzip").readAllBytes(), equalTo(json));
+        assertThat(LinkedinRequestTemplate.decode(new ByteArrayInputStream(zlib.toByteArray()), "deflate").readAllBytes(), equalTo(json));
+        assertThat(LinkedinRequestTemplate.decode(new ByteArrayInputStream(raw.toByteArray()), "deflate").readAllBytes(), equalTo(json));
+        assertThat(LinkedinRequestTemplate.decode(new ByteArrayInputStream(json), null).readAllBytes(), equalTo(json));
+        assertThrows(IOException.class, () -> LinkedinRequestTemplate.decode(new ByteArrayInputStream(json), "br"));
+    }
+
+    @Test
+    void shouldDefaultAndValidateBaseUrl() {
+        assertThat(LinkedinRequestTemplate.of(null, null).getBaseUrl(), equalTo("https://api.linkedin.com/rest"));
+        assertThat(LinkedinRequestTemplate.of(null, null).getApiVersion(), equalTo("202509"));
+        assertThrows(IllegalArgumentException.class, () -> LinkedinRequestTemplate.of("https://evil.example.com/rest", "202509"));
+    }
+
+    @Test
+    void shouldShareTemplatesOfTheSameSettings() {
+        LinkedinRequestTemplate template = LinkedinRequestTemplate.of("https://api.linkedin.com/rest/", "202509");
+
+        assertThat(LinkedinRequestTemplate.of("https://api.linkedin.com/rest/", "202509"), sameInstance(template));
+        assertThat(LinkedinRequestTemplate.of("https://api.linkedin.com/rest/", "202510"), not(sameInstance(template)));
+        // credentials are never set on the shared template
+        assertThat(template.withAccessToken("token"), not(sameInstance(template)));
+        assertThat(template.getCredential(), nullValue());
+    }
+}
@@ -0,0 +1,132 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.utils.IdUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinkedinTokenPoolTest {
+    @Test
+    void shouldSpreadRequestsAcrossTokens() throws Exception {
+        String first = "token-" + IdUtils.create();
+        String second = "token-" + IdUtils.create();
+        LinkedinTokenPool pool = LinkedinTokenPool.of(List.of(first, second, first));
+
+        assertThat(pool.size(), equalTo(2));
+
+        LinkedinTokenPool.Token a = pool.acquire();
+        LinkedinTokenPool.Token b = pool.acquire();
+        assertThat(List.of(a.value(), b.value()), containsInAnyOrder(first, second));
+
+        pool.release(a, null);
+        assertThat(pool.acquire().value(), equalTo(a.value()));
+    }
+
+    @Test
+    void shouldSkipTokensInCooldown() throws Exception {
+        String throttled = "token-" + IdUtils.create();
+        String healthy = "token-" + IdUtils.create();
+        LinkedinTokenPool pool = LinkedinTokenPool.of(List.of(throttled, healthy));
+
+        LinkedinTokenPool.Token token = pool.acquire();
+        pool.release(token, null);
+        LinkedinTokenPool.Token throttledToken = token.value().equals(throttled) ? token : pool.acquire();
+        pool.coolDown(throttledToken, Duration.ofMinutes(1), false);
+
+        for (int i = 0; i < 5; i++) {
+            LinkedinTokenPool.Token acquired = pool.acquire();
+            assertThat(acquired.value(), equalTo(healthy));
+            pool.release(acquired, null);
+        }
+
+        // the cooldown is shared by every pool using the token
+        assertThrows(IllegalStateException.class, () -> LinkedinTokenPool.of(List.of(throttled), Duration.ofSeconds(1)).acquire());
+        assertThat(pool.acquire().toString(), not(containsString("token-")));
+        assertThrows(IllegalArgumentException.class, () -> LinkedinTokenPool.of(List.of()));
+    }
+
+    @Test
+    void shouldBalanceIdleTokensByRequestRate() throws Exception {
+        String first = "token-" + IdUtils.create();
+        String second = "token-" + IdUtils.create();
+        LinkedinTokenPool pool = LinkedinTokenPool.of(List.of(first, second));
+
+        List<String> used = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            LinkedinTokenPool.Token token = pool.acquire();
+            used.add(token.value());
+            pool.release(token, null);
+        }
+
+        // requests are sent one at a time, so the request rate alone spreads them
+        assertThat(used.stream().filter(first::equals).count(), equalTo(2L));
+        assertThat(pool.requestRate(pool.acquire()), greaterThanOrEqualTo(2.0));
+    }
+
+    @Test
+    void shouldForgetIdleTokens() throws Exception {
+        String value = "token-" + IdUtils.create();
+        LinkedinTokenPool pool = LinkedinTokenPool.of(List.of(value));
+        LinkedinTokenPool.Token token = pool.acquire();
+        long later = System.nanoTime() + LinkedinTokenPool.STATE_TTL.toNanos() * 2;
+
+        assertThat(token.state().isIdle(later), is(false));
+        pool.release(token, null);
+        assertThat(token.state().isIdle(later), is(true));
+
+        LinkedinTokenPool.sweep(later);
+        assertThat(LinkedinTokenPool.of(List.of(value)).acquire().state(), not(sameInstance(token.state())));
+    }
+
+    @Test
+    void shouldWaitForTheFirstThrottledTokenWhenAllAreCoolingDown() throws Exception {
+        String first = "token-" + IdUtils.create();
+        String second = "token-" + IdUtils.create();
+        LinkedinTokenPool pool = LinkedinTokenPool.of(List.of(first, second), Duration.ofSeconds(5));
+
+        LinkedinTokenPool.Token a = pool.acquire();
+        LinkedinTokenPool.Token b = pool.acquire();
+        pool.release(a, null);
+        pool.release(b, null);
+        pool.coolDown(a, Duration.ofMinutes(1), false);
+        pool.coolDown(b, Duration.ofMillis(300), false);
+
+        long start = System.nanoTime();
+        LinkedinTokenPool.Token acquired = pool.acquire();
+
+        assertThat(acquired.value(), equalTo(b.value()));
+        assertThat(pool.isAvailable(acquired), is(true));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), greaterThanOrEqualTo(250L));
+        pool.release(acquired, null);
+
+        // a cooldown ending after the maximum wait fails right away
+        pool.coolDown(b, Duration.ofMinutes(1), false);
+        start = System.nanoTime();
+        assertThrows(IllegalStateException.class, pool::acquire);
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toSeconds(), lessThan(1L));
+    }
+
+    @Test
+    void shouldFailFastWhenAllTokensAreUnauthorized() throws Exception {
+        String first = "token-" + IdUtils.create();
+        String second = "token-" + IdUtils.create();
+        LinkedinTokenPool pool = LinkedinTokenPool.of(List.of(first, second));
+
+        LinkedinTokenPool.Token a = pool.acquire();
+        LinkedinTokenPool.Token b = pool.acquire();
+        pool.release(a, null);
+        pool.release(b, null);
+        pool.coolDown(a, LinkedinTokenPool.UNAUTHORIZED_COOLDOWN, true);
+        pool.coolDown(b, LinkedinTokenPool.UNAUTHORIZED_COOLDOWN, true);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, pool::acquire);
+        assertThat(e.getMessage(), containsString("401"));
+    }
+}
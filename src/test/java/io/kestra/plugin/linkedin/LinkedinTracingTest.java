@@ -0,0 +1,39 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LinkedinTracingTest {
+    @Test
+    void shouldCountReadBytes() throws IOException {
+        LinkedinTracing.CountingInputStream counting = new LinkedinTracing.CountingInputStream(
+            new ByteArrayInputStream("{\"elements\":[]}".getBytes(StandardCharsets.UTF_8))
+        );
+
+        try (InputStream body = counting) {
+            assertThat(body.read(), is((int) '{'));
+            body.skip(2);
+            body.readAllBytes();
+        }
+
+        assertThat(counting.count(), is(15L));
+    }
+
+    @Test
+    void shouldReturnTheResultOrRethrowTheErrorOfTheSpan() throws Exception {
+        assertThat(LinkedinTracing.inSpan("test", span -> "value"), is("value"));
+
+        IllegalStateException error = new IllegalStateException("failed");
+        assertThat(assertThrows(IllegalStateException.class, () -> LinkedinTracing.inSpan("test", span -> {
+            throw error;
+        })), sameInstance(error));
+    }
+}
@@ -118,4 +118,23 @@ class OAuth2Test {
         String tokenUrl = runContext.render(task.getTokenUrl()).as(String.class).orElse(null);
         assertThat(tokenUrl, equalTo("https://www.linkedin.com/oauth/v2/accessToken"));
     }
+
+    @Test
+    void shouldReadTokenResponsesWithTheSharedReader() throws Exception {
+        OAuth2.TokenResponse response = LinkedinJson.TOKEN_READER.readValue(
+            "{\"access_token\":\"token\",\"expires_in\":5184000,\"refresh_token_expires_in\":31536000,\"scope\":\"r_basicprofile\"}"
+        );
+
+        assertThat(response.accessToken(), equalTo("token"));
+        assertThat(response.expiresIn(), equalTo(5184000L));
+        assertThat(response.scope(), equalTo("r_basicprofile"));
+        assertThat(response.tokenType(), nullValue());
+
+        assertThat(OAuth2.formData("refresh", "client", "secret"), allOf(
+            hasEntry("grant_type", (Object) "refresh_token"),
+            hasEntry("refresh_token", (Object) "refresh"),
+            hasEntry("client_id", (Object) "client"),
+            hasEntry("client_secret", (Object) "secret")
+        ));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.http.client.HttpClient;
+import io.kestra.core.http.client.configurations.HttpConfiguration;
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@KestraTest
+class OrganizationPostDiscoveryTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    @Inject
+    EmbeddedServer server;
+
+    @BeforeEach
+    void ensureServer() {
+        if (!server.isRunning())
+            server.start();
+    }
+
+    @Test
+    void shouldOnlyDiscoverNewPostsOnRefresh() throws Exception {
+        GetPostAnalytics task = GetPostAnalytics.builder().id("discovery").type(GetPostAnalytics.class.getName()).build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        String namespace = runContext.flowInfo().namespace();
+        String key = OrganizationPostDiscovery.stateKey("flow_" + IdUtils.create(), "trigger");
+        LinkedinRequestTemplate template = LinkedinRequestTemplate.of(server.getURI().toString(), "202509");
+
+        try (HttpClient httpClient = HttpClient.builder().runContext(runContext).configuration(HttpConfiguration.builder().build()).build()) {
+            OrganizationPostDiscovery discovery = OrganizationPostDiscovery.load(runContext, namespace, key, "urn:li:organization:1", 10);
+            assertThat(discovery.refresh(httpClient, template), is(true));
+            assertThat(discovery.postUrns(), contains("urn:li:share:2", "urn:li:ugcPost:1"));
+            discovery.save(runContext, namespace, key, Duration.ofHours(1));
+
+            OrganizationPostDiscovery reloaded = OrganizationPostDiscovery.load(runContext, namespace, key, "urn:li:organization:1", 10);
+            assertThat(reloaded.postUrns(), contains("urn:li:share:2", "urn:li:ugcPost:1"));
+            assertThat(reloaded.refresh(httpClient, template), is(false));
+        }
+    }
+
+    @Test
+    void shouldKeepOnlyMostRecentPosts() throws Exception {
+        GetPostAnalytics task = GetPostAnalytics.builder().id("discovery").type(GetPostAnalytics.class.getName()).build();
+        RunContext runContext = TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+        String key = OrganizationPostDiscovery.stateKey("flow_" + IdUtils.create(), "trigger");
+
+        try (HttpClient httpClient = HttpClient.builder().runContext(runContext).configuration(HttpConfiguration.builder().build()).build()) {
+            OrganizationPostDiscovery discovery = OrganizationPostDiscovery.load(runContext, runContext.flowInfo().namespace(), key, "urn:li:organization:1", 1);
+            discovery.refresh(httpClient, LinkedinRequestTemplate.of(server.getURI().toString(), "202509"));
+
+            assertThat(discovery.postUrns(), contains("urn:li:share:2"));
+        }
+    }
+}
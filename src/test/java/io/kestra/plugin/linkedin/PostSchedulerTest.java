@@ -0,0 +1,125 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostSchedulerTest {
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    @Test
+    void shouldRunHigherPrioritiesFirst() {
+        PostScheduler scheduler = new PostScheduler(Map.of("urn:li:activity:3", 10, "urn:li:activity:4", 5), false, 50, NOW, null);
+
+        List<String> scheduled = scheduler.schedule(Flux.just("urn:li:activity:1", "urn:li:activity:2", "urn:li:activity:3", "urn:li:activity:4"))
+            .collectList()
+            .block();
+
+        assertThat(scheduled, contains("urn:li:activity:3", "urn:li:activity:4", "urn:li:activity:1", "urn:li:activity:2"));
+    }
+
+    @Test
+    void shouldNotStarveLowPriorityPosts() {
+        // a low priority post followed by a long stream of high priority ones
+        List<String> urns = new ArrayList<>();
+        urns.add("urn:li:activity:low");
+        IntStream.range(0, 1_000).forEach(i -> urns.add("urn:li:activity:high-" + i));
+        Map<String, Integer> priorities = new HashMap<>();
+        urns.subList(1, urns.size()).forEach(urn -> priorities.put(urn, 2));
+
+        PostScheduler scheduler = new PostScheduler(priorities, false, 10, NOW, null);
+
+        List<String> scheduled = new ArrayList<>();
+        scheduler.schedule(urns.iterator()).forEachRemaining(scheduled::add);
+
+        // overtaken by at most agingWindow posts per level of priority
+        assertThat(scheduled.indexOf("urn:li:activity:low"), allOf(greaterThan(0), lessThanOrEqualTo(20)));
+        assertThat(scheduled, hasSize(urns.size()));
+    }
+
+    @Test
+    void shouldDerivePriorityFromPostAge() {
+        PostScheduler scheduler = new PostScheduler(Map.of(), true, 50, NOW, null);
+
+        assertThat(scheduler.priority(urn(NOW.minus(Duration.ofHours(2)))), equalTo(10));
+        assertThat(scheduler.priority(urn(NOW.minus(Duration.ofDays(3)))), equalTo(6));
+        assertThat(scheduler.priority(urn(NOW.minus(Duration.ofDays(20)))), equalTo(3));
+        assertThat(scheduler.priority(urn(NOW.minus(Duration.ofDays(400)))), equalTo(0));
+        assertThat(scheduler.priority("urn:li:activity:42"), equalTo(0));
+        assertThat(scheduler.priority("not-an-urn"), equalTo(0));
+    }
+
+    @Test
+    void shouldDerivePriorityFromRecentActivity() {
+        Instant now = Instant.now();
+        String active = "urn:li:activity:active-" + now.toEpochMilli();
+        String quiet = "urn:li:activity:quiet-" + now.toEpochMilli();
+        PostScheduler.recordActivity(active, now.minus(Duration.ofMinutes(10)).toEpochMilli());
+        PostScheduler.recordActivity(quiet, now.minus(Duration.ofDays(3)).toEpochMilli());
+
+        PostScheduler scheduler = new PostScheduler(Map.of(), true, 50, now, null);
+
+        assertThat(scheduler.priority(active), equalTo(10));
+        assertThat(scheduler.priority(quiet), equalTo(3));
+        assertThat(new PostScheduler(Map.of(), false, 50, now, null).priority(active), equalTo(0));
+    }
+
+    @Test
+    void shouldReleaseTheNextPostOnceTheBudgetAllowsIt() throws Exception {
+        LinkedinRateLimiter rateLimiter = new LinkedinRateLimiter(10);
+        PostScheduler scheduler = new PostScheduler(Map.of("urn:li:activity:2", 5), false, 50, NOW, rateLimiter);
+        assertThat(rateLimiter.tryAcquire(), is(true));
+
+        // the queue itself never waits for the budget
+        long start = System.nanoTime();
+        assertThat(scheduler.schedule(List.of("urn:li:activity:1", "urn:li:activity:2").iterator()).next(), equalTo("urn:li:activity:2"));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), lessThan(50L));
+
+        // the flux releases the post once the permit taken above is spent, waiting on a virtual thread
+        start = System.nanoTime();
+        Map.Entry<String, Boolean> first = scheduler.schedule(Flux.just("urn:li:activity:1", "urn:li:activity:2"))
+            .map(urn -> Map.entry(urn, Thread.currentThread().isVirtual()))
+            .blockFirst();
+
+        assertThat(first.getKey(), equalTo("urn:li:activity:2"));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), greaterThanOrEqualTo(50L));
+        assertThat(first.getValue(), is(true));
+    }
+
+    @Test
+    void shouldPreferExplicitPriorities() {
+        String recent = urn(NOW.minus(Duration.ofHours(1)));
+        PostScheduler scheduler = new PostScheduler(Map.of(recent, 1), true, 50, NOW, null);
+
+        assertThat(scheduler.priority(recent), equalTo(1));
+    }
+
+    @Test
+    void shouldBeDisabledWithoutPriorities() {
+        assertThat(PostScheduler.of(null, false, 50, null), nullValue());
+        assertThat(PostScheduler.of(Map.of(), false, 50, null), nullValue());
+        assertThat(PostScheduler.of(Map.of(), true, 50, null), notNullValue());
+    }
+
+    @Test
+    void shouldRejectInvalidPriorities() {
+        assertThrows(IllegalArgumentException.class, () -> new PostScheduler(Map.of("urn:li:activity:1", 11), false, 50, NOW, null));
+        assertThrows(IllegalArgumentException.class, () -> new PostScheduler(Map.of(), true, 0, NOW, null));
+    }
+
+    private static String urn(Instant createdAt) {
+        return "urn:li:activity:" + (createdAt.toEpochMilli() << 22);
+    }
+}
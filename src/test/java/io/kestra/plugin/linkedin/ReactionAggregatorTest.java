@@ -0,0 +1,48 @@
+package io.kestra.plugin.linkedin;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReactionAggregatorTest {
+    private static final long DAY = 86_400_000L;
+
+    @Test
+    void shouldCountPerTypeAndDay() {
+        ReactionAggregator aggregator = new ReactionAggregator(GetPostAnalytics.Aggregation.DAILY);
+
+        // newest first, as returned by the API
+        aggregator.add("LIKE", 2 * DAY + 10);
+        aggregator.add("PRAISE", 2 * DAY + 5);
+        aggregator.add("LIKE", DAY + 1);
+        aggregator.add("LIKE", 2 * DAY + 1);
+        aggregator.add(null, DAY);
+        aggregator.add("EMPATHY", -1);
+
+        assertThat(aggregator.total(), equalTo(6));
+        assertThat(aggregator.summary(), allOf(hasEntry("LIKE", 3), hasEntry("PRAISE", 1), hasEntry("EMPATHY", 1)));
+
+        GetPostAnalytics.ReactionHistogram histogram = aggregator.histogram();
+        assertThat(histogram.getBucketMillis(), equalTo(DAY));
+        assertThat(histogram.getBucketStarts(), equalTo(new long[]{DAY, 2 * DAY}));
+        assertThat(histogram.getCounts(), equalTo(new int[]{2, 3}));
+        assertThat(histogram.getCountsByType().get("LIKE"), equalTo(new int[]{1, 2}));
+        assertThat(histogram.getCountsByType().get("EMPATHY"), equalTo(new int[]{0, 0}));
+    }
+
+    @Test
+    void shouldGrowBucketsAndTypes() {
+        ReactionAggregator aggregator = new ReactionAggregator(GetPostAnalytics.Aggregation.HOURLY);
+        for (int i = 0; i < 100; i++) {
+            aggregator.add("TYPE_" + (i % 20), i * 3_600_000L);
+        }
+
+        GetPostAnalytics.ReactionHistogram histogram = aggregator.histogram();
+        assertThat(histogram.getCounts().length, equalTo(100));
+        assertThat(histogram.getCountsByType().size(), equalTo(20));
+        assertThat(histogram.getCountsByType().get("TYPE_3")[23], equalTo(1));
+        assertThrows(IllegalArgumentException.class, () -> new ReactionAggregator(GetPostAnalytics.Aggregation.NONE));
+    }
+}
@@ -0,0 +1,93 @@
+package io.kestra.plugin.linkedin;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestHedgerTest {
+    @Test
+    void shouldComputePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(Duration.ofMillis(i * 10L));
+        }
+
+        assertThat(histogram.count(), equalTo(100L));
+        assertThat(histogram.percentile(50).toMillis(), allOf(greaterThanOrEqualTo(500L), lessThanOrEqualTo(550L)));
+        assertThat(histogram.percentile(99).toMillis(), allOf(greaterThanOrEqualTo(990L), lessThanOrEqualTo(1090L)));
+        assertThat(new LatencyHistogram().percentile(95), nullValue());
+    }
+
+    @Test
+    void shouldHedgeSlowRequests() throws Exception {
+        RequestHedger hedger = new RequestHedger(90, null);
+        for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+            assertThat(hedger.execute(() -> "fast"), equalTo("fast"));
+        }
+
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+        String result = hedger.execute(() -> {
+            // the first attempt hangs, the hedge answers right away
+            if (attempts.incrementAndGet() == 1) {
+                Thread.sleep(5_000);
+                return "slow";
+            }
+            return "hedged";
+        });
+
+        assertThat(result, equalTo("hedged"));
+        assertThat(hedger.hedgesCount(), equalTo(1));
+        assertThat(Duration.ofNanos(System.nanoTime() - start), lessThan(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void shouldRunAttemptsOnVirtualThreads() throws Exception {
+        RequestHedger hedger = new RequestHedger(90, null);
+        for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+            hedger.execute(() -> "fast");
+        }
+
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        AtomicInteger attempts = new AtomicInteger();
+        hedger.execute(() -> {
+            threads.add(Thread.currentThread());
+            if (attempts.incrementAndGet() == 1) {
+                Thread.sleep(5_000);
+            }
+            return "answer";
+        });
+
+        assertThat(hedger.hedgesCount(), equalTo(1));
+        assertThat(threads, hasSize(2));
+        for (Thread thread : threads) {
+            assertThat(thread.isVirtual(), is(true));
+            assertThat(thread.getName(), not(startsWith("boundedElastic-")));
+        }
+    }
+
+    @Test
+    void shouldNotHedgeWithoutBudget() throws Exception {
+        LinkedinRateLimiter rateLimiter = new LinkedinRateLimiter(0.001);
+        assertThat(rateLimiter.tryAcquire(), is(true));
+
+        RequestHedger hedger = new RequestHedger(90, rateLimiter);
+        for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+            hedger.execute(() -> "fast");
+        }
+
+        assertThat(hedger.execute(() -> {
+            Thread.sleep(200);
+            return "slow";
+        }), equalTo("slow"));
+        assertThat(hedger.hedgesCount(), equalTo(0));
+        assertThrows(IllegalArgumentException.class, () -> new RequestHedger(100, null));
+    }
+}
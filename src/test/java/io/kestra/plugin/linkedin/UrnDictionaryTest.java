@@ -0,0 +1,37 @@
+package io.kestra.plugin.linkedin;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UrnDictionaryTest {
+    @Test
+    void shouldShareEqualUrns() {
+        UrnDictionary urns = new UrnDictionary();
+
+        String first = urns.intern(new String("urn:li:person:abc"));
+        String second = urns.intern(new String("urn:li:person:abc"));
+
+        assertThat(second, sameInstance(first));
+        assertThat(urns.size(), is(1));
+        assertThat(urns.intern(null), nullValue());
+    }
+
+    @Test
+    void shouldStopGrowingOnceFull() {
+        UrnDictionary urns = new UrnDictionary(1);
+        urns.intern("urn:li:person:abc");
+
+        String overflow = new String("urn:li:person:def");
+
+        assertThat(urns.intern(overflow), sameInstance(overflow));
+        assertThat(urns.size(), is(1));
+    }
+
+    @Test
+    void shouldRejectInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new UrnDictionary(0));
+    }
+}
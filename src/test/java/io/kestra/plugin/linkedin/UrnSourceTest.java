@@ -0,0 +1,90 @@
+package io.kestra.plugin.linkedin;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.utils.TestsUtils;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class UrnSourceTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    void shouldReadCsvFile() throws Exception {
+        RunContext runContext = runContext();
+        File file = runContext.workingDir().createTempFile(".csv").toFile();
+        Files.writeString(file.toPath(), """
+            urn,label
+            urn:li:activity:1,first
+            "urn:li:activity:2",second
+
+            urn:li:comment:(activity:3,4),third
+            """);
+        URI uri = runContext.storage().putFile(file);
+
+        List<String> urns = UrnSource.read(runContext, uri).collectList().block();
+
+        assertThat(urns, contains("urn:li:activity:1", "urn:li:activity:2", "urn:li:comment:(activity:3,4)"));
+    }
+
+    @Test
+    void shouldReadIonFile() throws Exception {
+        RunContext runContext = runContext();
+        File file = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new FileOutputStream(file)) {
+            FileSerde.write(output, "urn:li:activity:1");
+            FileSerde.write(output, Map.of("urn", "urn:li:activity:2", "label", "second"));
+        }
+        URI uri = runContext.storage().putFile(file);
+
+        List<String> urns = UrnSource.read(runContext, uri).collectList().block();
+
+        assertThat(urns, contains("urn:li:activity:1", "urn:li:activity:2"));
+    }
+
+    @Test
+    void shouldUseInlineList() throws Exception {
+        List<String> urns = UrnSource.of(runContext(), Property.ofValue(List.of("urn:li:activity:1")), "urns", null, "urnsFrom")
+            .collectList()
+            .block();
+
+        assertThat(urns, contains("urn:li:activity:1"));
+    }
+
+    @Test
+    void shouldRequireExactlyOneSource() {
+        assertThrows(IllegalArgumentException.class, () -> UrnSource.of(runContext(), null, "urns", null, "urnsFrom"));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> UrnSource.of(runContext(), Property.ofValue(List.of("urn:li:activity:1")), "urns", Property.ofValue("kestra:///file.csv"), "urnsFrom")
+        );
+    }
+
+    private RunContext runContext() {
+        GetPostAnalytics task = GetPostAnalytics.builder()
+            .id("urn-source")
+            .type(GetPostAnalytics.class.getName())
+            .build();
+
+        return TestsUtils.mockRunContext(runContextFactory, task, Map.of());
+    }
+}
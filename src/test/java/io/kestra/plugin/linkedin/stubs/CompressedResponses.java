@@ -0,0 +1,36 @@
+package io.kestra.plugin.linkedin.stubs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import io.micronaut.http.*;
+
+/**
+ * Answers gzip compressed JSON to the clients accepting it, as LinkedIn does.
+ */
+final class CompressedResponses {
+    private CompressedResponses() {
+    }
+
+    static MutableHttpResponse<?> json(HttpRequest<?> request, String json) {
+        boolean gzip = request.getHeaders().findFirst(HttpHeaders.ACCEPT_ENCODING).map(value -> value.contains("gzip")).orElse(false);
+        if (!gzip) {
+            return HttpResponse.ok(json).contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return HttpResponse.ok(compressed.toByteArray())
+            .contentType(MediaType.APPLICATION_JSON_TYPE)
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+}
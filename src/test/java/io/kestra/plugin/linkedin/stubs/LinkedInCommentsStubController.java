@@ -0,0 +1,59 @@
+package io.kestra.plugin.linkedin.stubs;
+
+import io.micronaut.http.*;
+import io.micronaut.http.annotation.*;
+
+@Controller
+public class LinkedInCommentsStubController {
+    @Get("/socialActions/{urn}/comments")
+    public HttpResponse<String> comments(@PathVariable String urn) {
+        if (urn.endsWith(":forbidden")) {
+            return HttpResponse.status(HttpStatus.FORBIDDEN);
+        }
+
+        String body;
+        if (urn.startsWith("urn:li:comment:")) {
+            body = """
+                  {
+                    "elements": [
+                      {
+                        "id": "300",
+                        "commentUrn": "urn:li:comment:(activity:1,300)",
+                        "actor": "urn:li:person:ghi",
+                        "message": { "text": "Reply" },
+                        "created": { "time": 1700002000000 },
+                        "commentsSummary": { "totalFirstLevelComments": 0 }
+                      }
+                    ],
+                    "paging": { "start": 0, "count": 100, "total": 1 }
+                  }
+                """;
+        } else {
+            body = """
+                  {
+                    "elements": [
+                      {
+                        "id": "100",
+                        "commentUrn": "urn:li:comment:(activity:1,100)",
+                        "actor": "urn:li:person:abc",
+                        "message": { "text": "First" },
+                        "created": { "time": 1700000000000 },
+                        "commentsSummary": { "totalFirstLevelComments": 1 }
+                      },
+                      {
+                        "id": "200",
+                        "commentUrn": "urn:li:comment:(activity:1,200)",
+                        "actor": "urn:li:person:def",
+                        "message": { "text": "Second" },
+                        "created": { "time": 1700001000000 },
+                        "commentsSummary": { "totalFirstLevelComments": 0 }
+                      }
+                    ],
+                    "paging": { "start": 0, "count": 100, "total": 2 }
+                  }
+                """;
+        }
+
+        return HttpResponse.ok(body).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+}
@@ -0,0 +1,99 @@
+package io.kestra.plugin.linkedin.stubs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.*;
+import io.micronaut.http.annotation.*;
+
+@Controller
+public class LinkedInMediaStubController {
+    public static final int VIDEO_PART_SIZE = 10;
+    public static final long IMAGE_UPLOAD_DELAY_MILLIS = 300;
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    @Post("/images")
+    public HttpResponse<?> initializeImageUpload(
+        HttpRequest<?> request,
+        @QueryValue @Nullable String action,
+        @Body Map<String, Map<String, Object>> body) {
+        if (!"initializeUpload".equals(action) || body.get("initializeUploadRequest") == null) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+
+        int id = IDS.incrementAndGet();
+        String response = """
+              {
+                "value": {
+                  "uploadUrlExpiresAt": 1700000000000,
+                  "uploadUrl": "%s/upload/image/%d",
+                  "image": "urn:li:image:%d"
+                }
+              }
+            """.formatted(baseUrl(request), id, id);
+
+        return CompressedResponses.json(request, response);
+    }
+
+    @Post("/videos")
+    public HttpResponse<String> videoUpload(
+        HttpRequest<?> request,
+        @QueryValue @Nullable String action,
+        @Body Map<String, Map<String, Object>> body) {
+        if ("finalizeUpload".equals(action)) {
+            Map<String, Object> finalizeRequest = body.get("finalizeUploadRequest");
+            boolean valid = finalizeRequest != null && finalizeRequest.get("uploadedPartIds") instanceof List<?> partIds && !partIds.isEmpty();
+            return HttpResponse.status(valid ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+        }
+
+        Map<String, Object> initializeRequest = body.get("initializeUploadRequest");
+        if (!"initializeUpload".equals(action) || initializeRequest == null) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+
+        int id = IDS.incrementAndGet();
+        long size = ((Number) initializeRequest.get("fileSizeBytes")).longValue();
+        List<String> instructions = new ArrayList<>();
+        for (long firstByte = 0, part = 0; firstByte < size; firstByte += VIDEO_PART_SIZE, part++) {
+            instructions.add(
+                "{ \"uploadUrl\": \"%s/upload/video/%d-%d\", \"firstByte\": %d, \"lastByte\": %d }"
+                    .formatted(baseUrl(request), id, part, firstByte, Math.min(firstByte + VIDEO_PART_SIZE, size) - 1)
+            );
+        }
+
+        String response = """
+              {
+                "value": {
+                  "uploadUrlsExpireAt": 1700000000000,
+                  "video": "urn:li:video:%d",
+                  "uploadInstructions": [%s],
+                  "uploadToken": ""
+                }
+              }
+            """.formatted(id, String.join(",", instructions));
+
+        return HttpResponse.ok(response).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Put(uri = "/upload/{kind}/{id}", consumes = MediaType.APPLICATION_OCTET_STREAM)
+    public HttpResponse<String> upload(String kind, String id, @Body byte[] body) throws InterruptedException {
+        if (body == null || body.length == 0) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+
+        // images are slow so that later videos finish uploading first
+        if ("image".equals(kind)) {
+            Thread.sleep(IMAGE_UPLOAD_DELAY_MILLIS);
+        }
+
+        return HttpResponse.<String>status(HttpStatus.CREATED).header("ETag", "etag-" + id + "-" + body.length);
+    }
+
+    private static String baseUrl(HttpRequest<?> request) {
+        return "http://localhost:" + request.getServerAddress().getPort();
+    }
+}
@@ -0,0 +1,101 @@
+package io.kestra.plugin.linkedin.stubs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.*;
+import io.micronaut.http.annotation.*;
+
+@Controller
+public class LinkedInPageStatisticsStubController {
+    public static final AtomicInteger REQUESTS = new AtomicInteger();
+
+    private static final Pattern TIME_RANGE = Pattern.compile("start:(\\d+),end:(\\d+)");
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    @Get("/organizationalEntityFollowerStatistics")
+    public HttpResponse<String> followerStatistics(
+        @QueryValue @Nullable String q,
+        @QueryValue @Nullable String organizationalEntity,
+        @QueryValue @Nullable String timeIntervals) {
+        if (!"organizationalEntity".equals(q) || organizationalEntity == null) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+        REQUESTS.incrementAndGet();
+
+        if (timeIntervals == null) {
+            String body = """
+                  {
+                    "elements": [
+                      {
+                        "organizationalEntity": "%s",
+                        "followerCountsByFunction": [
+                          { "function": "urn:li:function:8", "followerCounts": { "organicFollowerCount": 12, "paidFollowerCount": 1 } }
+                        ]
+                      }
+                    ]
+                  }
+                """.formatted(organizationalEntity);
+            return HttpResponse.ok(body).contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
+
+        // an organization without statistics yet
+        if (organizationalEntity.endsWith(":empty")) {
+            return HttpResponse.ok("{ \"elements\": [] }").contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
+
+        List<String> elements = new ArrayList<>();
+        for (long[] day : days(timeIntervals)) {
+            elements.add("""
+                { "organizationalEntity": "%s", "timeRange": { "start": %d, "end": %d }, "followerGains": { "organicFollowerGain": 3, "paidFollowerGain": 1 } }
+                """.formatted(organizationalEntity, day[0], day[1]));
+        }
+
+        return HttpResponse.ok("{ \"elements\": [" + String.join(",", elements) + "] }").contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Get("/organizationPageStatistics")
+    public HttpResponse<String> pageStatistics(
+        @QueryValue @Nullable String q,
+        @QueryValue @Nullable String organization,
+        @QueryValue @Nullable String timeIntervals) {
+        if (!"organization".equals(q) || organization == null || timeIntervals == null) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+        REQUESTS.incrementAndGet();
+
+        List<String> elements = new ArrayList<>();
+        for (long[] day : days(timeIntervals)) {
+            elements.add("""
+                {
+                  "organization": "%s",
+                  "timeRange": { "start": %d, "end": %d },
+                  "totalPageStatistics": {
+                    "clicks": { "careersPageClicks": { "careersPagePromoLinksClicks": 2 } },
+                    "views": { "allPageViews": { "pageViews": 40, "uniquePageViews": 25 } }
+                  }
+                }
+                """.formatted(organization, day[0], day[1]));
+        }
+
+        return HttpResponse.ok("{ \"elements\": [" + String.join(",", elements) + "] }").contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    private static List<long[]> days(String timeIntervals) {
+        Matcher matcher = TIME_RANGE.matcher(timeIntervals);
+        if (!matcher.find()) {
+            return List.of();
+        }
+
+        long end = Long.parseLong(matcher.group(2));
+        List<long[]> days = new ArrayList<>();
+        for (long start = Long.parseLong(matcher.group(1)); start < end; start += DAY_MILLIS) {
+            days.add(new long[]{start, Math.min(start + DAY_MILLIS, end)});
+        }
+        return days;
+    }
+}
@@ -0,0 +1,56 @@
+package io.kestra.plugin.linkedin.stubs;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.*;
+import io.micronaut.http.annotation.*;
+
+@Controller
+public class LinkedInPostsStubController {
+    public static final List<String> CREATED_POSTS = new CopyOnWriteArrayList<>();
+    public static final AtomicInteger THROTTLED_POSTS = new AtomicInteger();
+
+    @Get("/posts")
+    public HttpResponse<String> posts(
+        @QueryValue @Nullable String q,
+        @QueryValue @Nullable String author) {
+        if (!"author".equals(q) || author == null) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+
+        String body = """
+              {
+                "elements": [
+                  { "id": "urn:li:share:2", "author": "%s", "createdAt": 1700001000000 },
+                  { "id": "urn:li:ugcPost:1", "author": "%s", "createdAt": 1700000000000 }
+                ],
+                "paging": { "start": 0, "count": 50 }
+              }
+            """.formatted(author, author);
+
+        return HttpResponse.ok(body).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Post("/posts")
+    public HttpResponse<String> createPost(@Body Map<String, Object> body) {
+        if (body.get("author") == null || body.get("commentary") == null || !"PUBLISHED".equals(body.get("lifecycleState"))) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+
+        if ("rejected".equals(body.get("commentary"))) {
+            return HttpResponse.status(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+
+        if ("throttled".equals(body.get("commentary"))) {
+            THROTTLED_POSTS.incrementAndGet();
+            return HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        CREATED_POSTS.add((String) body.get("commentary"));
+        return HttpResponse.<String>status(HttpStatus.CREATED).header("x-restli-id", "urn:li:share:" + CREATED_POSTS.size());
+    }
+}
@@ -0,0 +1,47 @@
+package io.kestra.plugin.linkedin.stubs;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.*;
+import io.micronaut.http.annotation.*;
+
+@Controller
+public class LinkedInProfilesStubController {
+    public static final AtomicInteger REQUESTS = new AtomicInteger();
+
+    @Get("/people")
+    public HttpResponse<String> people(@QueryValue @Nullable String ids) {
+        REQUESTS.incrementAndGet();
+
+        String body = """
+              {
+                "results": {
+                  "(id:abc)": {
+                    "localizedFirstName": "Ada",
+                    "localizedLastName": "Lovelace",
+                    "localizedHeadline": "Analyst",
+                    "vanityName": "ada"
+                  }
+                }
+              }
+            """;
+
+        return HttpResponse.ok(body).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Get("/organizationsLookup")
+    public HttpResponse<String> organizations(@QueryValue @Nullable String ids) {
+        REQUESTS.incrementAndGet();
+
+        String body = """
+              {
+                "results": {
+                  "42": { "localizedName": "Kestra", "vanityName": "kestra" }
+                }
+              }
+            """;
+
+        return HttpResponse.ok(body).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+}
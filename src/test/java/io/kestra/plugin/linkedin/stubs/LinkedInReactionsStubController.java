@@ -2,6 +2,9 @@ package io.kestra.plugin.linkedin.stubs;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.*;
@@ -9,6 +12,8 @@ import io.micronaut.http.annotation.*;
 
 @Controller
 public class LinkedInReactionsStubController {
+    private static final Map<String, AtomicInteger> CALLS = new ConcurrentHashMap<>();
+
     @Get("/reactions/{path:.*}")
     public HttpResponse<String> reactions(
         @PathVariable String path,
@@ -22,6 +27,12 @@ public class LinkedInReactionsStubController {
         }
         String encodedUrn = path.substring("(entity:".length(), path.length() - 1);
         String urn = URLDecoder.decode(encodedUrn, StandardCharsets.UTF_8);
+        if (urn.endsWith(":invalid")) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+        if (urn.contains(":same-millisecond-")) {
+            return HttpResponse.ok(sameMillisecondReactions(urn)).contentType(MediaType.APPLICATION_JSON_TYPE);
+        }
 
         String body = """
               {
@@ -47,4 +58,17 @@ public class LinkedInReactionsStubController {
 
         return HttpResponse.ok(body).contentType(MediaType.APPLICATION_JSON_TYPE);
     }
+
+    // the second reaction of the millisecond only shows up from the second call on
+    private static String sameMillisecondReactions(String urn) {
+        String first = """
+            { "id": "r1", "reactionType": "LIKE", "root": "%s", "created": { "actor": "urn:li:person:abc", "time": 1700000000000 } }
+            """.formatted(urn);
+        String second = """
+            { "id": "r2", "reactionType": "LIKE", "root": "%s", "created": { "actor": "urn:li:person:def", "time": 1700000000000 } }
+            """.formatted(urn);
+
+        String elements = CALLS.computeIfAbsent(urn, key -> new AtomicInteger()).incrementAndGet() == 1 ? first : second + "," + first;
+        return "{ \"elements\": [" + elements + "] }";
+    }
 }
@@ -0,0 +1,39 @@
+package io.kestra.plugin.linkedin.stubs;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.*;
+import io.micronaut.http.annotation.*;
+
+@Controller
+public class LinkedInShareStatisticsStubController {
+    @Get("/organizationalEntityShareStatistics")
+    public HttpResponse<String> shareStatistics(
+        @QueryValue @Nullable String q,
+        @QueryValue @Nullable String organizationalEntity) {
+        if (!"organizationalEntity".equals(q) || organizationalEntity == null) {
+            return HttpResponse.status(HttpStatus.BAD_REQUEST);
+        }
+
+        String body = """
+              {
+                "elements": [
+                  {
+                    "organizationalEntity": "%s",
+                    "timeRange": { "start": 1735689600000, "end": 1735776000000 },
+                    "totalShareStatistics": {
+                      "uniqueImpressionsCount": 120,
+                      "shareCount": 3,
+                      "engagement": 0.05,
+                      "clickCount": 10,
+                      "likeCount": 4,
+                      "impressionCount": 200,
+                      "commentCount": 1
+                    }
+                  }
+                ]
+              }
+            """.formatted(organizationalEntity);
+
+        return HttpResponse.ok(body).contentType(MediaType.APPLICATION_JSON_TYPE);
+    }
+}